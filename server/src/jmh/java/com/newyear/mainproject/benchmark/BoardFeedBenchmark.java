@@ -0,0 +1,57 @@
+package com.newyear.mainproject.benchmark;
+
+import com.newyear.mainproject.board.entity.Board;
+import com.newyear.mainproject.board.repository.BoardRepository;
+import com.newyear.mainproject.board.service.BoardService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 피드 정렬 + 도시 필터 + 페이지 자르기 (BoardService.findOptionalBoards)
+ * repository 는 메모리 목록을 돌려주는 stub - findAll(Sort) 의 DB 정렬 비용은 포함하지 않음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BoardFeedBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int boardCount;
+
+    //likes : 좋아요순 (메모리 정렬), boardId : 최신순
+    @Param({"likes", "boardId"})
+    String tab;
+
+    //빈 값이면 전체 도시
+    @Param({"", "Paris"})
+    String city;
+
+    private BoardService boardService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Board> boards = Fixtures.boards(boardCount);
+        boardService = new BoardService(stubRepository(boards), null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Page<Board> findOptionalBoards() {
+        return boardService.findOptionalBoards(0, 20, tab, city.isEmpty() ? null : city);
+    }
+
+    //findAll 은 호출마다 새 목록 (서비스가 목록을 정렬, 필터링하므로)
+    private static BoardRepository stubRepository(List<Board> boards) {
+        return (BoardRepository) Proxy.newProxyInstance(BoardRepository.class.getClassLoader(),
+                new Class<?>[]{BoardRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll")) return new ArrayList<>(boards);
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,43 @@
+package com.newyear.mainproject.benchmark;
+
+import com.newyear.mainproject.util.DateCalculation;
+import com.newyear.mainproject.util.DateUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜 문자열 변환 (응답 변환마다 날짜 수만큼 호출)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateUtilBenchmark {
+
+    private final String date = "2023-03-21";
+    private final LocalDateTime createdAt = LocalDateTime.now().minusDays(3);
+
+    @Benchmark
+    public String convertStringToDateFormatV1() throws ParseException {
+        return DateUtil.convertStringToDateFormatV1(date);
+    }
+
+    @Benchmark
+    public String convertStringToDateFormatV2() throws ParseException {
+        return DateUtil.convertStringToDateFormatV2(date);
+    }
+
+    @Benchmark
+    public String convertLocalDatetimeToTime() {
+        return DateUtil.convertLocalDatetimeToTime(createdAt);
+    }
+
+    //일정 등록 시 시작 ~ 종료일 사이 날짜 목록 (2주)
+    @Benchmark
+    public List<String> dateCal() {
+        return DateCalculation.dateCal("2023-03-01", "2023-03-14");
+    }
+}
@@ -0,0 +1,163 @@
+package com.newyear.mainproject.benchmark;
+
+import com.newyear.mainproject.board.entity.Board;
+import com.newyear.mainproject.board.likes.Likes;
+import com.newyear.mainproject.budget.entity.Budget;
+import com.newyear.mainproject.city.entity.City;
+import com.newyear.mainproject.member.entity.Member;
+import com.newyear.mainproject.place.entity.Place;
+import com.newyear.mainproject.plan.entity.Plan;
+import com.newyear.mainproject.plan.entity.PlanDates;
+import com.newyear.mainproject.security.userdetails.MemberPrincipal;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 엔티티 그래프 (DB 없이 메모리에서 생성)
+ * seed 고정 - 실행마다 같은 데이터
+ */
+final class Fixtures {
+    static final String[] CITIES = {"Seoul", "Tokyo", "Paris", "London", "New York", "Bangkok", "Rome", "Sydney"};
+
+    private Fixtures() {
+    }
+
+    static Member member(long id) {
+        Member member = new Member();
+        member.setMemberId(id);
+        member.setEmail("member" + id + "@test.com");
+        member.setDisplayName("member" + id);
+        member.setProfileImage("https://cdn.test.com/profile/" + id + ".png");
+        member.setRoles(List.of("USER"));
+        return member;
+    }
+
+    static City city(long id, String name) {
+        City city = new City();
+        city.setId(id);
+        city.setCityName(name);
+        city.setCityImage("https://cdn.test.com/city/" + id + ".jpg");
+        return city;
+    }
+
+    /**
+     * 일정 - days 일, 하루 placesPerDay 개 장소
+     */
+    static Plan plan(long id, Member member, City city, int days, int placesPerDay) {
+        Plan plan = new Plan();
+        plan.setPlanId(id);
+        plan.setMember(member);
+        plan.setCity(city);
+        plan.setCityName(city.getCityName());
+        plan.setPlanTitle("Trip to " + city.getCityName());
+
+        LocalDate start = LocalDate.of(2023, 3, 1).plusDays(id % 300);
+        plan.setStartDate(start.toString());
+        plan.setEndDate(start.plusDays(days - 1).toString());
+
+        List<PlanDates> planDates = new ArrayList<>(days);
+        long placeId = id * 1000;
+        for (int day = 0; day < days; day++) {
+            PlanDates planDate = new PlanDates();
+            planDate.setPlanDateId(id * 100 + day);
+            planDate.setPlanDate(start.plusDays(day).toString());
+            planDate.setSubTitle("Day " + (day + 1));
+            planDate.setPlan(plan);
+
+            List<Place> places = new ArrayList<>(placesPerDay);
+            for (int i = 0; i < placesPerDay; i++) {
+                places.add(place(placeId++, plan, planDate));
+            }
+            planDate.setPlaces(places);
+            planDates.add(planDate);
+        }
+        plan.setPlanDates(planDates);
+
+        Budget budget = new Budget();
+        budget.setBudgetId(id);
+        budget.setExpectedBudget(1_000_000);
+        budget.setPlan(plan);
+        plan.setBudget(budget);
+        return plan;
+    }
+
+    private static Place place(long id, Plan plan, PlanDates planDate) {
+        Place place = new Place();
+        place.setPlaceId(id);
+        place.setPlaceName("place " + id);
+        place.setStartTime("10:00");
+        place.setEndTime("12:00");
+        place.setDescription("description of place " + id);
+        place.setLatitude(37.5 + id % 100 / 1000.0);
+        place.setLongitude(127.0 + id % 100 / 1000.0);
+        place.setPlaceAddress("address " + id);
+        place.setRatings(4.5);
+        place.setWebsite("https://place.test.com/" + id);
+        place.setPhone("02-000-0000");
+        place.setOpeningHours("09:00 - 18:00");
+        place.setPlan(plan);
+        place.setPlanDates(planDate);
+        return place;
+    }
+
+    /**
+     * 피드용 게시물 count 개
+     * 회원 1,000 명, 도시 8 개의 일정을 돌려 쓰고 좋아요는 0 ~ 19 개
+     */
+    static List<Board> boards(int count) {
+        Random random = new Random(42);
+        int memberCount = Math.min(count, 1_000);
+
+        List<Member> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) members.add(member(i + 1));
+
+        List<Plan> plans = new ArrayList<>(CITIES.length);
+        for (int i = 0; i < CITIES.length; i++) {
+            plans.add(plan(i + 1, members.get(i % memberCount), city(i + 1, CITIES[i]), 3, 0));
+        }
+
+        List<Board> boards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Board board = new Board();
+            board.setBoardId((long) i + 1);
+            board.setTitle("board " + (i + 1));
+            board.setContent("content");
+            board.setViews(random.nextInt(10_000));
+            board.setMember(members.get(random.nextInt(memberCount)));
+            board.setPlan(plans.get(random.nextInt(plans.size())));
+
+            int likeCount = random.nextInt(20);
+            List<Likes> likes = new ArrayList<>(likeCount);
+            for (int l = 0; l < likeCount; l++) {
+                likes.add(new Likes(members.get(random.nextInt(memberCount)), board));
+            }
+            board.setLikes(likes);
+            boards.add(board);
+        }
+        return boards;
+    }
+
+    //BoardMapper.checkLikes 가 principal 을 읽음 (benchmark 스레드에서 호출)
+    static void login(long memberId) {
+        MemberPrincipal principal = new MemberPrincipal(memberId, "member" + memberId + "@test.com", List.of("USER"));
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    //@Value 주입 대신 필드 직접 설정
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.newyear.mainproject.benchmark;
+
+import com.newyear.mainproject.security.jwt.JwtTokenizer;
+import com.newyear.mainproject.security.logout.TokenVersionService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급 (로그인, 재발급), 검증 (모든 인증 요청)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenizerBenchmark {
+
+    private JwtTokenizer jwtTokenizer;
+    private Map<String, Object> claims;
+    private Date expiration;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        //버전 조회는 메모리 map 만 사용 (DB, Redis 필요 없음)
+        jwtTokenizer = new JwtTokenizer(new TokenVersionService(null, null, 30));
+        Fixtures.setField(jwtTokenizer, "secretKey", "benchmark-secret-key-benchmark-secret-key-0123456789");
+        Fixtures.setField(jwtTokenizer, "keyId", "bench");
+        Fixtures.setField(jwtTokenizer, "previousKeys", "old=benchmark-previous-key-benchmark-previous-key-01");
+        Fixtures.setField(jwtTokenizer, "accessTokenExpirationMinutes", 30);
+        Fixtures.setField(jwtTokenizer, "refreshTokenExpirationMinutes", 420);
+        jwtTokenizer.init();
+
+        claims = new HashMap<>();
+        claims.put("memberId", 1L);
+        claims.put("username", "member1@test.com");
+        claims.put("roles", List.of("USER"));
+        expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
+        accessToken = jwtTokenizer.generateAccessToken(claims, "member1@test.com", expiration);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenizer.generateAccessToken(claims, "member1@test.com", expiration);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtTokenizer.generateRefreshToken("member1@test.com", expiration);
+    }
+
+    @Benchmark
+    public Jws<Claims> getClaims() {
+        return jwtTokenizer.getClaims(accessToken);
+    }
+}
@@ -0,0 +1,55 @@
+package com.newyear.mainproject.benchmark;
+
+import com.newyear.mainproject.board.dto.BoardDto;
+import com.newyear.mainproject.board.entity.Board;
+import com.newyear.mainproject.board.mapper.BoardMapper;
+import com.newyear.mainproject.board.mapper.BoardMapperImpl;
+import com.newyear.mainproject.plan.dto.PlanDto;
+import com.newyear.mainproject.plan.entity.Plan;
+import com.newyear.mainproject.plan.mapper.PlanMapper;
+import com.newyear.mainproject.plan.mapper.PlanMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 목록 (한 페이지), 일정 상세 응답 변환
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    //게시물 목록 한 페이지 크기
+    @Param({"20", "100"})
+    int pageSize;
+
+    //일정 일수 (하루 장소 5 개)
+    @Param({"3", "14"})
+    int days;
+
+    private final BoardMapper boardMapper = new BoardMapperImpl();
+    private final PlanMapper planMapper = new PlanMapperImpl();
+
+    private List<Board> boards;
+    private Plan plan;
+
+    @Setup
+    public void setUp() {
+        boards = Fixtures.boards(pageSize);
+        plan = Fixtures.plan(1, Fixtures.member(1), Fixtures.city(1, "Seoul"), days, 5);
+        Fixtures.login(1);
+    }
+
+    @Benchmark
+    public List<BoardDto.Response> boardsToBoardResponseDto() {
+        return boardMapper.boardsToBoardResponseDto(boards);
+    }
+
+    @Benchmark
+    public PlanDto.PlanDatePlaceDetailResponse planToPlaceDetailResponseDto() throws ParseException {
+        return planMapper.planToPlaceDetailResponseDto(plan);
+    }
+}
@@ -0,0 +1,101 @@
+package com.newyear.mainproject.benchmark;
+
+import com.newyear.mainproject.security.logout.RedisUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisUtil 동시 처리량 (8 스레드) - 실행 중인 Redis 필요 (-Djmh.redis.host, -Djmh.redis.port, 기본 localhost:6379)
+ * 기본 jmh 실행에서는 제외, ./gradlew jmh -PjmhIncludes=RedisUtilBenchmark 로 실행
+ * 연결 풀 설정은 RedisConfig 기본값과 같음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class RedisUtilBenchmark {
+    private static final String PREFIX = "jmh:";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisUtil redisUtil;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("jmh.redis.host", "localhost"),
+                Integer.getInteger("jmh.redis.port", 6379));
+
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(8);
+        poolConfig.setMaxIdle(8);
+        poolConfig.setMinIdle(2);
+        poolConfig.setMaxWait(Duration.ofMillis(500));
+
+        connectionFactory = new LettuceConnectionFactory(configuration, LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .commandTimeout(Duration.ofSeconds(2))
+                .build());
+        connectionFactory.afterPropertiesSet();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        RedisTemplate<String, Long> longRedisTemplate = new RedisTemplate<>();
+        longRedisTemplate.setConnectionFactory(connectionFactory);
+        longRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        longRedisTemplate.setValueSerializer(new GenericToStringSerializer<>(Long.class));
+        longRedisTemplate.afterPropertiesSet();
+
+        redisUtil = new RedisUtil(stringRedisTemplate, longRedisTemplate, new SimpleMeterRegistry());
+        redisUtil.set(PREFIX + "refresh", "refresh-token-value", 10);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stringRedisTemplate.delete(stringRedisTemplate.keys(PREFIX + "*"));
+        connectionFactory.destroy();
+    }
+
+    //refresh token 확인 (공유 연결)
+    @Benchmark
+    public String get() {
+        return redisUtil.get(PREFIX + "refresh");
+    }
+
+    //인증 번호 저장
+    @Benchmark
+    public void set() {
+        redisUtil.set(PREFIX + "code:" + ThreadLocalRandom.current().nextInt(1_000), "123456", 1);
+    }
+
+    //카운터 INCR + PEXPIRE (pipeline, 풀 연결)
+    @Benchmark
+    public long increment() {
+        return redisUtil.increment(PREFIX + "count:" + ThreadLocalRandom.current().nextInt(100), Duration.ofMinutes(1));
+    }
+
+    //게시물 방문 기록 SADD + EXPIRE (BoardService 조회수 확인과 같은 명령)
+    @Benchmark
+    public List<Object> visit() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String key = PREFIX + random.nextInt(1_000) + "_visits";
+        String boardId = String.valueOf(random.nextInt(10_000));
+        return redisUtil.batch(connection -> {
+            connection.sAdd(key, boardId);
+            connection.expire(key, 60);
+        });
+    }
+}
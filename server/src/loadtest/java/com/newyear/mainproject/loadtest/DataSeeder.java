@@ -0,0 +1,192 @@
+package com.newyear.mainproject.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 데이터 생성 - 엔티티 저장 대신 JDBC batch insert
+ * 회원 -> 일정(날짜, 장소, 예산) -> 게시물 -> 좋아요(power-law) -> 댓글 순
+ * id 를 직접 넣고 마지막에 identity 시작 값을 옮겨 이후 API 로 만든 행과 겹치지 않게 함
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DataSeeder {
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final LoadTestSettings settings;
+
+    public SeedData seed() {
+        long start = System.currentTimeMillis();
+        Random random = new Random(settings.getSeed());
+        LocalDateTime now = LocalDateTime.now();
+        List<Map<String, Object>> cities = jdbcTemplate.queryForList("select id, city_name from city");
+
+        int members = settings.getMembers();
+        //BCrypt 는 한 번만 (모든 회원 같은 비밀번호)
+        String password = passwordEncoder.encode(SeedData.PASSWORD);
+        try (Batch memberBatch = new Batch("insert into member (member_id, email, display_name, password, profile_image, " +
+                "profile_key, created_at, token_version, member_status) values (?, ?, ?, ?, ?, ?, ?, 0, 'MEMBER_ACTIVE')");
+             Batch roleBatch = new Batch("insert into member_roles (member_member_id, roles) values (?, 'USER')", memberBatch)) {
+            for (long memberId = 1; memberId <= members; memberId++) {
+                memberBatch.add(memberId, SeedData.email(memberId), "member" + memberId, password,
+                        "https://cdn.test.com/profile/" + memberId + ".png", "BASIC", Timestamp.valueOf(now));
+                roleBatch.add(memberId);
+            }
+        }
+
+        long planId = 0;
+        long planDateId = 0;
+        long placeId = 0;
+        long[][] planDateIdsByMember = new long[members][];
+        List<long[]> boardPlans = new ArrayList<>(); //{planId, memberId}
+        try (Batch planBatch = new Batch("insert into plan (plan_id, plan_title, city_name, start_date, end_date, " +
+                "board_check, member_id, city_id) values (?, ?, ?, ?, ?, ?, ?, ?)");
+             Batch planDateBatch = new Batch("insert into plan_dates (plan_date_id, plan_date, sub_title, plan_id) values (?, ?, ?, ?)", planBatch);
+             Batch placeBatch = new Batch("insert into place (place_id, place_name, start_time, end_time, description, latitude, " +
+                     "longitude, place_address, ratings, website, phone, opening_hours, plan_date_id, plan_id) " +
+                     "values (?, ?, '10:00', '12:00', ?, ?, ?, ?, 4.5, ?, '02-000-0000', '09:00 - 18:00', ?, ?)", planDateBatch);
+             Batch budgetBatch = new Batch("insert into budget (budget_id, expected_budget, currency, plan_id) values (?, ?, 'KRW', ?)", planBatch)) {
+            for (long memberId = 1; memberId <= members; memberId++) {
+                long[] dateIds = new long[settings.getPlansPerMember() * settings.getDaysPerPlan()];
+                int dateIndex = 0;
+                for (int p = 0; p < settings.getPlansPerMember(); p++) {
+                    planId++;
+                    Map<String, Object> city = cities.get(random.nextInt(cities.size()));
+                    String cityName = (String) city.get("city_name");
+                    LocalDate startDate = LocalDate.of(2023, 1, 1).plusDays(random.nextInt(365));
+                    boolean board = random.nextDouble() < settings.getBoardRatio();
+
+                    planBatch.add(planId, "Trip to " + cityName, cityName, startDate.toString(),
+                            startDate.plusDays(settings.getDaysPerPlan() - 1).toString(), board, memberId, city.get("id"));
+                    budgetBatch.add(planId, 1_000_000, planId);
+                    if (board) boardPlans.add(new long[]{planId, memberId});
+
+                    for (int day = 0; day < settings.getDaysPerPlan(); day++) {
+                        planDateId++;
+                        dateIds[dateIndex++] = planDateId;
+                        planDateBatch.add(planDateId, startDate.plusDays(day).toString(), "Day " + (day + 1), planId);
+                        for (int i = 0; i < settings.getPlacesPerDay(); i++) {
+                            placeId++;
+                            placeBatch.add(placeId, "place " + placeId, "description of place " + placeId,
+                                    37 + random.nextDouble(), 127 + random.nextDouble(), "address " + placeId,
+                                    "https://place.test.com/" + placeId, planDateId, planId);
+                        }
+                    }
+                }
+                planDateIdsByMember[(int) memberId - 1] = dateIds;
+            }
+        }
+
+        //게시물 - 인기 순위는 무작위 (id 순서와 무관)
+        long[] boardsByRank = new long[boardPlans.size()];
+        try (Batch boardBatch = new Batch("insert into board (board_id, title, content, views, member_id, plan_id, " +
+                "created_at, last_modified_at) values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < boardPlans.size(); i++) {
+                long boardId = i + 1;
+                long[] plan = boardPlans.get(i);
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(boardPlans.size() - i));
+                boardBatch.add(boardId, "board " + boardId, "content of board " + boardId, random.nextInt(1_000),
+                        plan[1], plan[0], createdAt, createdAt);
+                boardsByRank[i] = boardId;
+            }
+        }
+        shuffle(boardsByRank, random);
+
+        //좋아요 - k 번째 인기 게시물은 (회원 수 / 2) / k^exponent 개, 서로 다른 회원
+        long likesId = 0;
+        try (Batch likesBatch = new Batch("insert into likes (likes_id, member_id, board_id) values (?, ?, ?)")) {
+            for (int rank = 0; rank < boardsByRank.length; rank++) {
+                int count = PowerLaw.weight(rank, members / 2, settings.getPopularityExponent());
+                int offset = random.nextInt(members);
+                for (int i = 0; i < count; i++) {
+                    likesBatch.add(++likesId, (long) (offset + i) % members + 1, boardsByRank[rank]);
+                }
+            }
+        }
+
+        //댓글 - 게시물마다 평균 commentsPerBoard 개 (기하 분포)
+        long commentId = 0;
+        double continueProbability = settings.getCommentsPerBoard() / (settings.getCommentsPerBoard() + 1);
+        try (Batch commentBatch = new Batch("insert into comment (comment_id, comment, board_id, member_id, created_at, " +
+                "last_modified_at) values (?, ?, ?, ?, ?, ?)")) {
+            for (long boardId = 1; boardId <= boardsByRank.length; boardId++) {
+                while (random.nextDouble() < continueProbability) {
+                    commentId++;
+                    Timestamp createdAt = Timestamp.valueOf(now);
+                    commentBatch.add(commentId, "comment " + commentId, boardId, (long) random.nextInt(members) + 1,
+                            createdAt, createdAt);
+                }
+            }
+        }
+
+        restartIdentity("member", "member_id", members);
+        restartIdentity("plan", "plan_id", planId);
+        restartIdentity("plan_dates", "plan_date_id", planDateId);
+        restartIdentity("place", "place_id", placeId);
+        restartIdentity("budget", "budget_id", planId);
+        restartIdentity("board", "board_id", boardsByRank.length);
+        restartIdentity("likes", "likes_id", likesId);
+        restartIdentity("comment", "comment_id", commentId);
+
+        log.info("seeded {} members, {} plans, {} plan dates, {} places, {} boards, {} likes, {} comments in {}ms",
+                members, planId, planDateId, placeId, boardsByRank.length, likesId, commentId,
+                System.currentTimeMillis() - start);
+        return new SeedData(members, boardsByRank, planDateIdsByMember, likesId, commentId);
+    }
+
+    private void restartIdentity(String table, String column, long lastId) {
+        jdbcTemplate.execute("alter table " + table + " alter column " + column + " restart with " + (lastId + 1));
+    }
+
+    private static void shuffle(long[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    //batchSize 개씩 모아 전송, close 시 남은 행 전송 (FK 때문에 parent 의 행을 먼저 전송)
+    private class Batch implements AutoCloseable {
+        private final String sql;
+        private final Batch parent;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        Batch(String sql) {
+            this(sql, null);
+        }
+
+        Batch(String sql, Batch parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= settings.getBatchSize()) flush();
+        }
+
+        private void flush() {
+            if (parent != null) parent.flush();
+            if (rows.isEmpty()) return;
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.newyear.mainproject.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * endpoint 별 응답 시간 (HdrHistogram, us 단위 / 유효 숫자 3 자리) 과 상태 코드 수
+ * 연결 오류는 상태 코드 0 으로 기록
+ */
+public class LatencyRecorder {
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public void start() {
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public void record(String endpoint, int status, long nanos) {
+        if (!recording) return;
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+        stats.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_MICROS));
+        stats.statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * endpoint 이름 순 결과 (throughput : 측정 시간 기준 초당 요청 수, latency : ms)
+     */
+    public List<Map<String, Object>> summary(Duration measured) {
+        double seconds = measured.toMillis() / 1000.0;
+        List<Map<String, Object>> result = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((name, stats) -> {
+            Histogram histogram = stats.histogram;
+            Map<String, Long> statuses = new TreeMap<>();
+            stats.statuses.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", name);
+            row.put("requests", histogram.getTotalCount());
+            row.put("throughput", Math.round(histogram.getTotalCount() / seconds * 10) / 10.0);
+            row.put("p50", millis(histogram.getValueAtPercentile(50)));
+            row.put("p99", millis(histogram.getValueAtPercentile(99)));
+            row.put("p999", millis(histogram.getValueAtPercentile(99.9)));
+            row.put("max", millis(histogram.getMaxValue()));
+            row.put("statuses", statuses);
+            result.add(row);
+        });
+        return result;
+    }
+
+    private static double millis(long micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+
+    private static class Endpoint {
+        private final Histogram histogram = new ConcurrentHistogram(MAX_MICROS, 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,145 @@
+package com.newyear.mainproject.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * 닫힌 루프 부하 - 스레드마다 회원 한 명으로 응답을 받으면 바로 다음 요청
+ * 요청 종류는 설정 비율대로, 게시물은 인기 순위 power-law 로 선택
+ * login-storm 은 별도 스레드가 로그인만 계속 보냄 (BCrypt 풀 포화 중 피드 지연 확인)
+ */
+@Slf4j
+public class LoadGenerator {
+    private static final String[] FEED_TABS = {"likes", "boardId", "views"};
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final SeedData seedData;
+    //회원 id -> access token
+    private final LongFunction<String> tokens;
+    private final LatencyRecorder recorder;
+    private final PowerLaw boardPopularity;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public LoadGenerator(String baseUrl, LoadTestSettings settings, SeedData seedData,
+                         LongFunction<String> tokens, LatencyRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.seedData = seedData;
+        this.tokens = tokens;
+        this.recorder = recorder;
+        this.boardPopularity = new PowerLaw(seedData.getBoardsByRank().length, settings.getPopularityExponent());
+    }
+
+    /**
+     * runFor 동안 부하를 보내고 모든 스레드가 끝나면 반환
+     */
+    public void run(Duration runFor) throws InterruptedException {
+        long deadline = System.nanoTime() + runFor.toNanos();
+        int loginThreads = settings.isLoginStorm() ? settings.getLoginThreads() : 0;
+        ExecutorService executor = Executors.newFixedThreadPool(settings.getThreads() + loginThreads);
+
+        for (int i = 0; i < settings.getThreads(); i++) {
+            int index = i;
+            executor.execute(() -> mix(index, deadline));
+        }
+        for (int i = 0; i < loginThreads; i++) {
+            int index = i;
+            executor.execute(() -> loginStorm(index, deadline));
+        }
+
+        executor.shutdown();
+        if (!executor.awaitTermination(runFor.toMillis() + 60_000, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void mix(int index, long deadline) {
+        Random random = new Random(settings.getSeed() + index);
+        long memberId = index % seedData.getMembers() + 1;
+        String token = "Bearer " + tokens.apply(memberId);
+        long[] planDateIds = seedData.getPlanDateIdsByMember()[(int) memberId - 1];
+        int totalWeight = settings.getFeedWeight() + settings.getDetailWeight() + settings.getLikeWeight()
+                + settings.getCommentWeight() + settings.getPlanEditWeight();
+
+        while (System.nanoTime() < deadline) {
+            int pick = random.nextInt(totalWeight);
+            if ((pick -= settings.getFeedWeight()) < 0) {
+                //앞 페이지일수록 많이 봄
+                int page = 1 + (int) Math.min(4, -Math.log(1 - random.nextDouble()));
+                String tab = FEED_TABS[random.nextInt(FEED_TABS.length)];
+                send("feed", get("/board?page=" + page + "&size=" + settings.getFeedPageSize() + "&tab=" + tab, token));
+            } else if ((pick -= settings.getDetailWeight()) < 0) {
+                send("detail", get("/board/" + nextBoard(random), token));
+            } else if ((pick -= settings.getLikeWeight()) < 0) {
+                send("like", json("POST", "/board/" + nextBoard(random) + "/likes", "{}", token));
+            } else if ((pick -= settings.getCommentWeight()) < 0) {
+                send("comment", json("POST", "/comments/board/" + nextBoard(random),
+                        "{\"comment\":\"load test comment " + random.nextInt(1_000) + "\"}", token));
+            } else if (planDateIds.length > 0) {
+                long planDateId = planDateIds[random.nextInt(planDateIds.length)];
+                send("plan-edit", json("PATCH", "/plans/date/title/" + planDateId,
+                        "{\"subTitle\":\"edited " + random.nextInt(1_000) + "\"}", token));
+            }
+        }
+    }
+
+    private void loginStorm(int index, long deadline) {
+        Random random = new Random(settings.getSeed() - index - 1);
+        while (System.nanoTime() < deadline) {
+            long memberId = random.nextInt(seedData.getMembers()) + 1;
+            send("login", json("POST", "/members/login",
+                    "{\"email\":\"" + SeedData.email(memberId) + "\",\"password\":\"" + SeedData.PASSWORD + "\"}", null));
+        }
+    }
+
+    private long nextBoard(Random random) {
+        return seedData.getBoardsByRank()[boardPopularity.next(random)];
+    }
+
+    private void send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = 0;
+            log.debug("{} failed : {}", endpoint, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        recorder.record(endpoint, status, System.nanoTime() - start);
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest json(String method, String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) builder.header("Authorization", token);
+        return builder.build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.newyear.mainproject.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.newyear.mainproject.MainProjectApplication;
+import com.newyear.mainproject.city.service.CityPopularityService;
+import com.newyear.mainproject.member.service.MemberStatsService;
+import com.newyear.mainproject.security.jwt.JwtTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import redis.embedded.RedisServer;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 부하 테스트 실행 (./gradlew loadTest -Ploadtest.scenario=mix)
+ * 내장 Redis + H2(MySQL 모드) 로 서버를 띄우고 데이터 생성 후 부하, endpoint 별 p50/p99/p999 와 처리량 출력
+ * 결과는 loadtest.report-dir 에 JSON 으로도 저장
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = new LoadTestSettings();
+        log.info("load test : {}", settings);
+
+        int redisPort = freePort();
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        ConfigurableApplicationContext context = null;
+        try {
+            context = new SpringApplicationBuilder(MainProjectApplication.class)
+                    .profiles("loadtest")
+                    .properties("server.port=0", "spring.redis.port=" + redisPort)
+                    .run(args);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            SeedData seedData = new DataSeeder(context.getBean(JdbcTemplate.class),
+                    context.getBean(PasswordEncoder.class), settings).seed();
+            //직접 넣은 행 기준으로 회원 통계, 도시 인기도 재집계
+            context.getBean(MemberStatsService.class).reconcile();
+            context.getBean(CityPopularityService.class).init();
+
+            JwtTokenizer jwtTokenizer = context.getBean(JwtTokenizer.class);
+            Map<Long, String> tokens = new ConcurrentHashMap<>();
+            LatencyRecorder recorder = new LatencyRecorder();
+            LoadGenerator generator = new LoadGenerator("http://localhost:" + port, settings, seedData,
+                    memberId -> tokens.computeIfAbsent(memberId, id -> accessToken(jwtTokenizer, id)), recorder);
+
+            //warmup 동안은 기록하지 않음
+            Thread timer = new Thread(() -> {
+                try {
+                    Thread.sleep(settings.getWarmup().toMillis());
+                    recorder.start();
+                    Thread.sleep(settings.getDuration().toMillis());
+                    recorder.stop();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "loadtest-timer");
+            timer.start();
+            generator.run(settings.getWarmup().plus(settings.getDuration()));
+            timer.join();
+
+            List<Map<String, Object>> results = recorder.summary(settings.getDuration());
+            print(results);
+            write(settings, seedData, results, context.getBean(ObjectMapper.class));
+        } finally {
+            if (context != null) context.close();
+            redisServer.stop();
+        }
+    }
+
+    //JwtAuthenticationFilter 와 같은 claims (로그인 BCrypt, 요청 제한 없이 발급)
+    private static String accessToken(JwtTokenizer jwtTokenizer, long memberId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("memberId", memberId);
+        claims.put("username", SeedData.email(memberId));
+        claims.put("roles", List.of("USER"));
+        return jwtTokenizer.generateAccessToken(claims, SeedData.email(memberId),
+                jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes()));
+    }
+
+    private static void print(List<Map<String, Object>> results) {
+        log.info(String.format("%-10s %10s %10s %9s %9s %9s %9s  %s",
+                "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "statuses"));
+        for (Map<String, Object> row : results) {
+            log.info(String.format("%-10s %10d %10.1f %9.2f %9.2f %9.2f %9.2f  %s",
+                    row.get("endpoint"), row.get("requests"), row.get("throughput"),
+                    row.get("p50"), row.get("p99"), row.get("p999"), row.get("max"), row.get("statuses")));
+        }
+    }
+
+    private static void write(LoadTestSettings settings, SeedData seedData, List<Map<String, Object>> results,
+                              ObjectMapper objectMapper) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", settings.getScenario());
+        report.put("settings", settings.toString());
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("members", seedData.getMembers());
+        report.put("boards", seedData.getBoardsByRank().length);
+        report.put("likes", seedData.getLikes());
+        report.put("comments", seedData.getComments());
+        report.put("results", results);
+
+        File dir = new File(settings.getReportDir());
+        dir.mkdirs();
+        File file = new File(dir, settings.getScenario() + "-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        log.info("report : {}", file.getAbsolutePath());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
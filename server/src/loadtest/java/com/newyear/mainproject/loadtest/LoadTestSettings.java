@@ -0,0 +1,54 @@
+package com.newyear.mainproject.loadtest;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 - 시스템 프로퍼티 loadtest.* (gradle -Ploadtest.* 로 전달)
+ */
+@Getter
+public class LoadTestSettings {
+    //mix : 피드/상세/좋아요/댓글/일정 수정, login-storm : mix + 로그인 폭주
+    private final String scenario = System.getProperty("loadtest.scenario", "mix");
+    private final long seed = Long.getLong("loadtest.seed", 42L);
+
+    //데이터
+    private final int members = Integer.getInteger("loadtest.members", 1_000);
+    private final int plansPerMember = Integer.getInteger("loadtest.plans-per-member", 3);
+    private final int daysPerPlan = Integer.getInteger("loadtest.days-per-plan", 4);
+    private final int placesPerDay = Integer.getInteger("loadtest.places-per-day", 4);
+    //게시물을 작성한 일정 비율
+    private final double boardRatio = Double.parseDouble(System.getProperty("loadtest.board-ratio", "0.5"));
+    //좋아요 수 분포 (k 번째 인기 게시물 = 최대 / k^exponent), 피드 외 요청의 게시물 선택에도 사용
+    private final double popularityExponent = Double.parseDouble(System.getProperty("loadtest.popularity-exponent", "1.1"));
+    private final double commentsPerBoard = Double.parseDouble(System.getProperty("loadtest.comments-per-board", "3"));
+    private final int batchSize = Integer.getInteger("loadtest.batch-size", 1_000);
+
+    //트래픽
+    private final int threads = Integer.getInteger("loadtest.threads", 32);
+    private final int loginThreads = Integer.getInteger("loadtest.login-threads", 16);
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10L));
+    private final Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60L));
+    private final int feedPageSize = Integer.getInteger("loadtest.feed-page-size", 20);
+    //요청 비율 (합이 100 일 필요 없음)
+    private final int feedWeight = Integer.getInteger("loadtest.weight.feed", 50);
+    private final int detailWeight = Integer.getInteger("loadtest.weight.detail", 30);
+    private final int likeWeight = Integer.getInteger("loadtest.weight.like", 8);
+    private final int commentWeight = Integer.getInteger("loadtest.weight.comment", 7);
+    private final int planEditWeight = Integer.getInteger("loadtest.weight.plan-edit", 5);
+
+    private final String reportDir = System.getProperty("loadtest.report-dir", "build/reports/loadtest");
+
+    public boolean isLoginStorm() {
+        return "login-storm".equals(scenario);
+    }
+
+    @Override
+    public String toString() {
+        return "scenario=" + scenario + ", members=" + members + ", plansPerMember=" + plansPerMember
+                + ", daysPerPlan=" + daysPerPlan + ", placesPerDay=" + placesPerDay + ", boardRatio=" + boardRatio
+                + ", threads=" + threads + (isLoginStorm() ? ", loginThreads=" + loginThreads : "")
+                + ", warmup=" + warmup.getSeconds() + "s, duration=" + duration.getSeconds() + "s";
+    }
+}
@@ -0,0 +1,31 @@
+package com.newyear.mainproject.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * k 번째 항목의 가중치가 1 / k^exponent 인 분포 (인기 게시물에 요청, 좋아요가 몰리는 모양)
+ */
+class PowerLaw {
+    private final double[] cumulative;
+
+    PowerLaw(int size, double exponent) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+    }
+
+    //0 ~ size-1 (작을수록 인기)
+    int next(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+    }
+
+    static int weight(int rank, int max, double exponent) {
+        return (int) (max / Math.pow(rank + 1, exponent));
+    }
+}
@@ -0,0 +1,26 @@
+package com.newyear.mainproject.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 생성한 데이터의 id (요청 대상 선택용)
+ * 회원 id 는 1 ~ members
+ */
+@Getter
+@RequiredArgsConstructor
+public class SeedData {
+    public static final String PASSWORD = "loadtest1!";
+
+    private final int members;
+    //인기 순위 -> 게시물 id (0 번이 가장 인기)
+    private final long[] boardsByRank;
+    //회원 id - 1 -> 그 회원 일정의 날짜 id
+    private final long[][] planDateIdsByMember;
+    private final long likes;
+    private final long comments;
+
+    public static String email(long memberId) {
+        return "loadtest" + memberId + "@test.com";
+    }
+}
@@ -4,7 +4,12 @@ import com.newyear.mainproject.board.dto.BoardDto;
 import com.newyear.mainproject.board.entity.Board;
 import com.newyear.mainproject.board.mapper.BoardMapper;
 import com.newyear.mainproject.board.service.BoardService;
+import com.newyear.mainproject.city.entity.City;
+import com.newyear.mainproject.city.mapper.CityMapper;
+import com.newyear.mainproject.city.service.CityPopularityService;
+import com.newyear.mainproject.city.service.CityService;
 import com.newyear.mainproject.dto.MultiResponseDto;
+import com.newyear.mainproject.dto.SingleResponseDto;
 import com.newyear.mainproject.plan.entity.Plan;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/board")
@@ -25,6 +31,9 @@ public class BoardController {
 
     private final BoardMapper mapper;
     private final BoardService boardService;
+    private final CityService cityService;
+    private final CityPopularityService popularityService;
+    private final CityMapper cityMapper;
 
     @PostMapping("/plan/{plan-id}")
     public ResponseEntity postBoard(@RequestBody @Valid BoardDto.Post post,
@@ -79,6 +88,15 @@ public class BoardController {
         return new ResponseEntity<>(mapper.boardsToBoardResponseDto(boards), HttpStatus.OK);
     }
 
+    // 도시 필터용 도시별 게시물 수
+    @GetMapping("/facets/city")
+    public ResponseEntity getCityFacets() {
+        List<City> cities = popularityService.citiesWithBoards(cityService.findCities());
+        return new ResponseEntity<>(new SingleResponseDto<>(cities.stream()
+                .map(city -> cityMapper.cityToFacetResponseDto(city, popularityService.getBoardCount(city.getId())))
+                .collect(Collectors.toList())), HttpStatus.OK);
+    }
+
     // 좋아요 클릭
     @PostMapping("{board-id}/likes")
     public ResponseEntity postLikes(@PathVariable("board-id") @Positive long boardId) {
@@ -1,6 +1,24 @@
 package com.newyear.mainproject.board.likes;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface LikesRepository extends JpaRepository<Likes, Long> {
+
+    //회원 삭제, 게시물 삭제 시 일괄 삭제
+    @Query("select l.likesId from Likes l where l.member.memberId = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Likes l where l.likesId in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from Likes l where l.board.boardId in :boardIds")
+    int deleteByBoardIds(@Param("boardIds") List<Long> boardIds);
 }
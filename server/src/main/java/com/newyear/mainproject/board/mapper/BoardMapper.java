@@ -8,6 +8,7 @@ import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.place.entity.Place;
 import com.newyear.mainproject.plan.entity.Plan;
 import com.newyear.mainproject.plan.entity.PlanDates;
+import com.newyear.mainproject.security.userdetails.MemberPrincipal;
 import org.mapstruct.Mapper;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -49,7 +50,7 @@ public interface BoardMapper {
         City city = plan.getCity();
 
         return new BoardDto.ResponseDetails(board.getBoardId(), board.getTitle(), board.getContent(), board.getLikes().size(),
-                board.getViews(), createdAt, member.getMemberId(), member.getDisplayName(), member.getProfileImage(), checkLikes(board),
+                board.getViews(), createdAt, member.getMemberId(), member.getDisplayName(), member.getMediumProfileImage(), checkLikes(board),
                 plan.getPlanId(), city.getCityName(), days, city.getCityImage());
     }
 
@@ -78,15 +79,23 @@ public interface BoardMapper {
             Member member = board.getMember();
 
             list.add(new BoardDto.Response(board.getBoardId(), board.getTitle(), board.getLikes().size(),
-                board.getViews(), member.getMemberId(), member.getDisplayName(), member.getProfileImage(), checkLikes(board), period, board.getPlan().getCity().getCityImage()));
+                board.getViews(), member.getMemberId(), member.getDisplayName(), member.getSmallProfileImage(), checkLikes(board), period, board.getPlan().getCity().getCityImage()));
         }
         return list;
     }
 
     private boolean checkLikes(Board board) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getPrincipal().toString();
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         boolean checkLikes = false;
-        Optional<Likes> likes = board.getLikes().stream().filter(like -> like.getMember().getEmail().equals(email)).findAny();
+        Optional<Likes> likes;
+        //토큰에 memberId 가 있으면 id 비교, 없으면 (비회원, 이전 토큰) email 비교
+        if (principal instanceof MemberPrincipal && ((MemberPrincipal) principal).getMemberId() != null) {
+            long memberId = ((MemberPrincipal) principal).getMemberId();
+            likes = board.getLikes().stream().filter(like -> like.getMember().getMemberId() == memberId).findAny();
+        } else {
+            String email = principal.toString();
+            likes = board.getLikes().stream().filter(like -> like.getMember().getEmail().equals(email)).findAny();
+        }
 
         if (likes.isPresent()) {
             checkLikes = true;
@@ -3,7 +3,11 @@ package com.newyear.mainproject.board.repository;
 import com.newyear.mainproject.board.entity.Board;
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.plan.entity.Plan;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -11,4 +15,12 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     List<Board> findByMember(Member member);
     List<Board> findAllByPlan(Plan plan);
+
+    //회원 삭제 시 일괄 삭제
+    @Query("select b.boardId from Board b where b.member.memberId = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Board b where b.boardId in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
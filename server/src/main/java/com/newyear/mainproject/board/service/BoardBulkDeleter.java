@@ -0,0 +1,32 @@
+package com.newyear.mainproject.board.service;
+
+import com.newyear.mainproject.board.likes.LikesRepository;
+import com.newyear.mainproject.board.repository.BoardRepository;
+import com.newyear.mainproject.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시물과 좋아요, 댓글을 엔티티 단위 cascade 대신 DELETE ... WHERE 로 삭제
+ * 순서 : 좋아요 -> 댓글 -> 게시물
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class BoardBulkDeleter {
+
+    private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+    private final BoardRepository boardRepository;
+
+    public int deleteBoards(List<Long> boardIds) {
+        if (boardIds.isEmpty()) return 0;
+
+        likesRepository.deleteByBoardIds(boardIds);
+        commentRepository.deleteByBoardIds(boardIds);
+        return boardRepository.deleteByIds(boardIds);
+    }
+}
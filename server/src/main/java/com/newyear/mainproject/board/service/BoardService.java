@@ -4,11 +4,14 @@ import com.newyear.mainproject.board.entity.Board;
 import com.newyear.mainproject.board.likes.Likes;
 import com.newyear.mainproject.board.likes.LikesRepository;
 import com.newyear.mainproject.board.repository.BoardRepository;
+import com.newyear.mainproject.city.service.CityPopularityService;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.member.service.MemberService;
+import com.newyear.mainproject.member.service.MemberStatsService;
 import com.newyear.mainproject.plan.entity.Plan;
+import com.newyear.mainproject.plan.service.PlanOwnershipService;
 import com.newyear.mainproject.plan.service.PlanService;
 import com.newyear.mainproject.security.logout.RedisUtil;
 import lombok.RequiredArgsConstructor;
@@ -29,21 +32,24 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BoardService {
 
+    private static final long VISIT_TTL_SECONDS = 60 * 60;
+
     private final BoardRepository boardRepository;
     private final MemberService memberService;
     private final LikesRepository likesRepository;
     private final PlanService planService;
     private final RedisUtil redisUtil;
+    private final CityPopularityService popularityService;
+    private final PlanOwnershipService ownershipService;
+    private final MemberStatsService memberStatsService;
+    private final BoardBulkDeleter boardBulkDeleter;
 
     public Board createBoard(Board board, long planId) {
+        //해당 plan 작성자만 board 생성 가능
+        ownershipService.verifyPlanOwner(planId);
         Member member = memberService.getLoginMember();
         Plan plan = planService.findPlan(planId);
 
-        //해당 plan 작성자만 board 생성 가능
-        if (!plan.getMember().equals(member)) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
-
         //만약 해당 일정에 게시판이 작성되어 있다면 예외
         if (!boardRepository.findAllByPlan(plan).isEmpty()) {
             throw new BusinessLogicException(ExceptionCode.BOARD_EXISTS);
@@ -55,13 +61,16 @@ public class BoardService {
 
         board.setMember(member);
         board.setPlan(plan);
-        return boardRepository.save(board);
+        Board savedBoard = boardRepository.save(board);
+        popularityService.boardCreated(savedBoard);
+        memberStatsService.boardCreated(savedBoard);
+        return savedBoard;
     }
 
     public Board updateBoard(Board board) {
         Board findBoard = findExistsBoard(board.getBoardId());
         //작성자만 접근 허용
-        if (!findBoard.getMember().getEmail().equals(memberService.getLoginMember().getEmail())) {
+        if (findBoard.getMember().getMemberId() != memberService.getLoginMemberId()) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
         }
         Optional.ofNullable(board.getTitle())
@@ -74,7 +83,7 @@ public class BoardService {
     public void deleteBoard(long boardId) {
         Board findBoard = findExistsBoard(boardId);
         //작성자만 접근 허용
-        if (!findBoard.getMember().getEmail().equals(memberService.getLoginMember().getEmail())) {
+        if (findBoard.getMember().getMemberId() != memberService.getLoginMemberId()) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
         }
 
@@ -84,7 +93,10 @@ public class BoardService {
         plan.setBoardCheck(false);
         planService.updatePlan(plan);
 
-        boardRepository.delete(findBoard);
+        popularityService.boardDeleted(findBoard);
+        memberStatsService.boardDeleted(findBoard);
+        //좋아요, 댓글까지 일괄 삭제
+        boardBulkDeleter.deleteBoards(List.of(boardId));
     }
 
     public Board findBoard(long boardId) {
@@ -101,12 +113,9 @@ public class BoardService {
 
     @Transactional(readOnly = true)
     public Plan findPlan(long planId) {
-        Plan findPlan = planService.findPlan(planId);
         //작성자만 접근 허용
-        if (!findPlan.getMember().getEmail().equals(memberService.getLoginMember().getEmail())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
-        return findPlan;
+        ownershipService.verifyPlanOwner(planId);
+        return planService.findPlan(planId);
     }
 
     /*
@@ -148,7 +157,7 @@ public class BoardService {
         Board findBoard = findExistsBoard(boardId);
         Member member = memberService.getLoginMember();
         //이미 좋아요한 게시물일 경우 좋아요 해제
-        Optional<Likes> like = findBoard.getLikes().stream().filter(l -> l.getMember().equals(member)).findAny();
+        Optional<Likes> like = findBoard.getLikes().stream().filter(l -> l.getMember().getMemberId() == member.getMemberId()).findAny();
         if (like.isPresent()) {
             likesRepository.deleteById(like.get().getLikesId());
         }
@@ -190,26 +199,24 @@ public class BoardService {
     //방문한 게시판은 1시간 후에 조회수 증가 허용
     private void isFirstRequest(long boardId, Board board) {
         String key;
-        String add = "_" + boardId + "_";
 
         try {
-            key = memberService.getLoginMember().getMemberId() + "_visit"; //회원인 경우 key 값
+            key = memberService.getLoginMemberId() + "_visits"; //회원인 경우 key 값
         } catch (BusinessLogicException e) {
             if (getIp() == null) return;
-            key = getIp() + "_visit"; //비회원인 경우 key 값
+            key = getIp() + "_visits"; //비회원인 경우 key 값
         }
 
-        if (redisUtil.hasKey(key)) {
-            String value = redisUtil.get(key).toString();
-            if (!value.contains(add)) {
-                log.info("조회수 증가 : {}", "key : " + key + "value : " + value);
-                viewCount(board);
-                redisUtil.set(key, value + boardId + "_", 60); //처음 방문하는 게시판
-            }
-        } else {
+        //방문 기록 추가 + 만료 시간 갱신을 한 번에 전송 (SADD 결과 1 이면 처음 방문하는 게시판)
+        String visitKey = key;
+        List<Object> results = redisUtil.batch(connection -> {
+            connection.sAdd(visitKey, String.valueOf(boardId));
+            connection.expire(visitKey, VISIT_TTL_SECONDS);
+        });
+
+        if (Long.valueOf(1L).equals(results.get(0))) {
             viewCount(board);
-            redisUtil.set(key, add, 60); //초기 세팅
-            log.info("조회수 증가 : {}", "key : " + key);
+            log.info("조회수 증가 : {}", "key : " + key + " boardId : " + boardId);
         }
     }
 
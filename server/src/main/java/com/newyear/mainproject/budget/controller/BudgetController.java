@@ -4,14 +4,18 @@ import com.newyear.mainproject.budget.dto.BudgetDto;
 import com.newyear.mainproject.budget.entity.Budget;
 import com.newyear.mainproject.budget.mapper.BudgetMapper;
 import com.newyear.mainproject.budget.service.BudgetService;
+import com.newyear.mainproject.currency.service.FxRateService;
+import com.newyear.mainproject.expense.service.ExpenseExportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/budget")
@@ -21,6 +25,8 @@ public class BudgetController {
 
     private final BudgetMapper mapper;
     private final BudgetService budgetService;
+    private final ExpenseExportService expenseExportService;
+    private final FxRateService fxRateService;
 
 //    @PostMapping
 //    public ResponseEntity postBudget(@RequestBody @Valid BudgetDto.Post post) {
@@ -45,6 +51,24 @@ public class BudgetController {
     @GetMapping("/{budget-id}")
     public ResponseEntity getBudget(@PathVariable("budget-id") long budgetId) {
         Budget budget = budgetService.findBudget(budgetId);
-        return new ResponseEntity<>(mapper.budgetToResponseDto(budget), HttpStatus.OK);
+        return new ResponseEntity<>(mapper.budgetToResponseDto(budget, fxRateService.getSnapshot()), HttpStatus.OK);
+    }
+
+    //지출 내역 내보내기 (csv)
+    @GetMapping("/{budget-id}/expenses.csv")
+    public void exportExpensesCsv(@PathVariable("budget-id") @Positive long budgetId,
+                                  HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv; charset=UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"budget-" + budgetId + "-expenses.csv\"");
+        expenseExportService.exportCsv(budgetId, response.getOutputStream());
+    }
+
+    //지출 내역 내보내기 (xlsx)
+    @GetMapping("/{budget-id}/expenses.xlsx")
+    public void exportExpensesXlsx(@PathVariable("budget-id") @Positive long budgetId,
+                                   HttpServletResponse response) throws IOException {
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader("Content-Disposition", "attachment; filename=\"budget-" + budgetId + "-expenses.xlsx\"");
+        expenseExportService.exportXlsx(budgetId, response.getOutputStream());
     }
 }
@@ -8,6 +8,7 @@ import lombok.Setter;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +34,9 @@ public class BudgetDto {
         @NotNull
         @Positive(message = "예산은 0원보다 커야합니다.")
         private int expectedBudget;
+
+        @Pattern(regexp = "[A-Za-z]{3}")
+        private String currency;
     }
 
     //조회시
@@ -43,7 +47,9 @@ public class BudgetDto {
     public static class Response {
         private long budgetId;
         private int expectedBudget;
-        private int totalExpenses;
+        private String currency;
+        //예산 통화로 환산한 지출 합계
+        private long totalExpenses;
         private List<ExpenseDto.Response> expenses = new ArrayList<>();
     }
 
@@ -53,6 +59,7 @@ public class BudgetDto {
     public static class SimpleResponse {
         private long budgetId;
         private int expectedBudget;
+        private String currency;
     }
 
 }
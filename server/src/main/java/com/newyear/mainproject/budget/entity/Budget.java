@@ -1,5 +1,6 @@
 package com.newyear.mainproject.budget.entity;
 
+import com.newyear.mainproject.currency.service.FxRateSnapshot;
 import com.newyear.mainproject.expense.entity.Expenses;
 import com.newyear.mainproject.plan.entity.Plan;
 import lombok.Getter;
@@ -22,6 +23,9 @@ public class Budget {
     @Column(nullable = false)
     private int expectedBudget;
 
+    @Column(nullable = false, length = 3)
+    private String currency = FxRateSnapshot.BASE_CURRENCY; //예산 통화 (지출 합계 기준)
+
     @OneToMany(mappedBy = "budget", cascade = CascadeType.ALL)
     private List<Expenses> expenses = new ArrayList<>();
 
@@ -2,7 +2,9 @@ package com.newyear.mainproject.budget.mapper;
 
 import com.newyear.mainproject.budget.dto.BudgetDto;
 import com.newyear.mainproject.budget.entity.Budget;
+import com.newyear.mainproject.currency.service.FxRateSnapshot;
 import com.newyear.mainproject.expense.dto.ExpenseDto;
+import com.newyear.mainproject.expense.entity.Expenses;
 import com.newyear.mainproject.place.entity.Place;
 import org.mapstruct.Mapper;
 
@@ -13,20 +15,23 @@ public interface BudgetMapper {
 
     Budget patchDtoToBudget(BudgetDto.Patch patch);
 
-    default BudgetDto.Response budgetToResponseDto(Budget budget) {
+    //지출 합계는 예산 통화로 환산 (rates : 요청 시점 환율 스냅샷)
+    default BudgetDto.Response budgetToResponseDto(Budget budget, FxRateSnapshot rates) {
         BudgetDto.Response response = new BudgetDto.Response();
         response.setBudgetId(budget.getBudgetId());
         response.setExpectedBudget(budget.getExpectedBudget());
-        budget.getExpenses().forEach(expense -> {
+        response.setCurrency(budget.getCurrency());
+        long totalExpenses = 0;
+        for (Expenses expense : budget.getExpenses()) {
             if (expense.getPlace() == null) {
                 expense.setPlace(new Place());
             }
             ExpenseDto.Response expenseDto = new ExpenseDto.Response(expense.getExpenseId(), expense.getItem(), expense.getPrice(),
-                    expense.getCategory(), expense.getCreatedAt().toString().substring(0, 10), expense.getPlace().getPlaceName());
-                response.setTotalExpenses(expense.getPrice() + response.getTotalExpenses());
-                response.getExpenses().add(expenseDto);
-            }
-        );
+                    expense.getCategory(), expense.getCreatedAt().toString().substring(0, 10), expense.getPlace().getPlaceName(), expense.getCurrency());
+            totalExpenses += rates.convert(expense.getPrice(), expense.getCurrency(), budget.getCurrency());
+            response.getExpenses().add(expenseDto);
+        }
+        response.setTotalExpenses(totalExpenses);
         return response;
     }
 
@@ -2,6 +2,20 @@ package com.newyear.mainproject.budget.repository;
 
 import com.newyear.mainproject.budget.entity.Budget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+    //환율 교체 시 사용 중인 통화 확인
+    @Query("select distinct b.currency from Budget b")
+    List<String> findCurrencies();
+
+    //일정 삭제 시 일괄 삭제
+    @Modifying
+    @Query("delete from Budget b where b.plan.planId in :planIds")
+    int deleteByPlanIds(@Param("planIds") List<Long> planIds);
 }
@@ -2,9 +2,11 @@ package com.newyear.mainproject.budget.service;
 
 import com.newyear.mainproject.budget.entity.Budget;
 import com.newyear.mainproject.budget.repository.BudgetRepository;
+import com.newyear.mainproject.currency.service.FxRateService;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
-import com.newyear.mainproject.member.service.MemberService;
+import com.newyear.mainproject.expense.service.ExpenseRollupService;
+import com.newyear.mainproject.plan.service.PlanOwnershipService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,33 +18,37 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class BudgetService {
     private final BudgetRepository budgetRepository;
-    private final MemberService memberService;
+    private final PlanOwnershipService ownershipService;
+    private final ExpenseRollupService rollupService;
+    private final FxRateService fxRateService;
 
     public Budget createBudget(Budget budget) {
         return budgetRepository.save(budget);
     }
 
     public Budget editBudget(Budget budget) {
-        Budget findBudget = findVerifiedBudget(budget.getBudgetId());
         //자신의 예산이 아니면 수정 불가
-        accessBudget(findBudget);
+        ownershipService.verifyBudgetOwner(budget.getBudgetId());
+        Budget findBudget = findVerifiedBudget(budget.getBudgetId());
 
         Optional.of(budget.getExpectedBudget())
                 .ifPresent(findBudget::setExpectedBudget);
+        Optional.ofNullable(fxRateService.verifyCurrency(budget.getCurrency()))
+                .ifPresent(findBudget::setCurrency);
 
         return budgetRepository.save(findBudget);
     }
 
     @Transactional(readOnly = true)
     public Budget findBudget(long budgetId) {
-        Budget findBudget = findVerifiedBudget(budgetId);
-        accessBudget(findBudget);
-        return findBudget;
+        ownershipService.verifyBudgetOwner(budgetId);
+        return findVerifiedBudget(budgetId);
     }
 
     public void deleteBudget(long budgetId) {
+        ownershipService.verifyBudgetOwner(budgetId);
         Budget findBudget = findVerifiedBudget(budgetId);
-        accessBudget(findBudget);
+        rollupService.removeBudget(findBudget);
         budgetRepository.deleteById(budgetId);
     }
 
@@ -51,11 +57,4 @@ public class BudgetService {
         return optionalBudget.orElseThrow(() -> new BusinessLogicException(ExceptionCode.BUDGET_NOT_FOUND));
     }
 
-    //자신의 예산이 아니면 수정 불가
-    private void accessBudget(Budget findBudget) {
-        if (!findBudget.getPlan().getMember().equals(memberService.getLoginMember())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
-    }
-
 }
@@ -1,34 +1,96 @@
 package com.newyear.mainproject.city.controller;
 
 import com.newyear.mainproject.city.mapper.CityMapper;
+import com.newyear.mainproject.city.service.CityCatalog;
+import com.newyear.mainproject.city.service.CityPopularityService;
 import com.newyear.mainproject.city.service.CityService;
 import com.newyear.mainproject.city.entity.City;
 import com.newyear.mainproject.dto.SingleResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/city")
+@Validated
 @Slf4j
 @RequiredArgsConstructor
 public class CityController {
     private final CityService cityService;
     private final CityMapper cityMapper;
+    private final CityPopularityService popularityService;
 
     /**
      * 대한민국 도시 데이터들 조회
+     * 미리 만들어 둔 응답 바이트 사용, If-None-Match 가 같으면 304
      */
     @GetMapping
-    public ResponseEntity getCity() {
-        List<City> cityList = cityService.findCities();
+    public ResponseEntity<byte[]> getCity(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CityCatalog catalog = cityService.getCatalog();
+        String etag = catalog.getEtag();
+
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || List.of(ifNoneMatch.split("\\s*,\\s*")).contains(etag))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.getGzipJson());
+        }
+        return builder.body(catalog.getJson());
+    }
+
+    /**
+     * 인기순 도시 조회 (일정 수 + 게시물 수)
+     */
+    @GetMapping(params = "sort=popular")
+    public ResponseEntity getPopularCity() {
+        List<City> cityList = popularityService.sortByPopularity(cityService.findCities());
+        return new ResponseEntity<>(new SingleResponseDto<>(cityList.stream()
+                .map(city -> cityMapper.cityToPopularResponseDto(city,
+                        popularityService.getPlanCount(city.getId()), popularityService.getBoardCount(city.getId())))
+                .collect(Collectors.toList())), HttpStatus.OK);
+    }
+
+    /**
+     * 도시 이름 자동완성 (ex. 서우, ㅅㅇ, 수원)
+     */
+    @GetMapping("/search")
+    public ResponseEntity searchCity(@RequestParam String q,
+                                     @RequestParam(defaultValue = "10") @Positive @Max(50) int limit) {
+        List<City> cityList = cityService.searchCities(q, limit);
         return new ResponseEntity<>(
                 new SingleResponseDto<>(cityMapper.cityToCityResponseDtos(cityList)), HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    /**
+     * 도시 카탈로그 다시 읽기 (관리자)
+     */
+    @PostMapping("/reload")
+    public ResponseEntity reloadCity() {
+        CityCatalog catalog = cityService.reloadCatalog();
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .body(new SingleResponseDto<>(catalog.getCities().size()));
+    }
+}
@@ -12,5 +12,21 @@ public class CityDto {
         private String cityName;
         private String cityImage;
     }
-}
 
+    @Getter
+    @Setter
+    public static class PopularResponse {
+        private Long id;
+        private String cityName;
+        private String cityImage;
+        private long planCount;
+        private long boardCount;
+    }
+
+    @Getter
+    @Setter
+    public static class FacetResponse {
+        private String cityName;
+        private long boardCount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.newyear.mainproject.city.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+/**
+ * 도시별 일정/게시물 수
+ * CityPopularityService 가 메모리에서 갱신하고 주기적으로 저장
+ */
+@Getter @Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "city_popularity")
+public class CityPopularity {
+
+    @Id
+    @Column(name = "city_id")
+    private Long cityId;
+
+    @Column(nullable = false)
+    private long planCount;
+
+    @Column(nullable = false)
+    private long boardCount;
+
+    public CityPopularity(Long cityId, long planCount, long boardCount) {
+        this.cityId = cityId;
+        this.planCount = planCount;
+        this.boardCount = boardCount;
+    }
+}
@@ -10,4 +10,21 @@ import java.util.List;
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface CityMapper {
     List<CityDto.ImageResponse> cityToCityResponseDtos(List<City> city);
+
+    default CityDto.PopularResponse cityToPopularResponseDto(City city, long planCount, long boardCount) {
+        CityDto.PopularResponse response = new CityDto.PopularResponse();
+        response.setId(city.getId());
+        response.setCityName(city.getCityName());
+        response.setCityImage(city.getCityImage());
+        response.setPlanCount(planCount);
+        response.setBoardCount(boardCount);
+        return response;
+    }
+
+    default CityDto.FacetResponse cityToFacetResponseDto(City city, long boardCount) {
+        CityDto.FacetResponse response = new CityDto.FacetResponse();
+        response.setCityName(city.getCityName());
+        response.setBoardCount(boardCount);
+        return response;
+    }
 }
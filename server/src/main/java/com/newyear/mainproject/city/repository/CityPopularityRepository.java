@@ -0,0 +1,46 @@
+package com.newyear.mainproject.city.repository;
+
+import com.newyear.mainproject.city.entity.CityPopularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CityPopularityRepository extends JpaRepository<CityPopularity, Long> {
+
+    //서버별 변경분을 더함 (여러 서버가 같은 행을 갱신해도 값을 덮어쓰지 않음)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into city_popularity (city_id, plan_count, board_count) values (:cityId, :plans, :boards) " +
+            "on duplicate key update plan_count = plan_count + :plans, board_count = board_count + :boards", nativeQuery = true)
+    int addCounts(@Param("cityId") Long cityId, @Param("plans") long plans, @Param("boards") long boards);
+
+    //초기 집계 저장 (여러 서버가 동시에 실행해도 같은 값)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into city_popularity (city_id, plan_count, board_count) values (:cityId, :plans, :boards) " +
+            "on duplicate key update plan_count = :plans, board_count = :boards", nativeQuery = true)
+    int initialize(@Param("cityId") Long cityId, @Param("plans") long plans, @Param("boards") long boards);
+
+    //저장된 값이 없을 때 초기 집계용
+    @Query("select p.city.id as cityId, count(p) as count from Plan p where p.city is not null group by p.city.id")
+    List<CityCount> countPlansByCity();
+
+    @Query("select b.plan.city.id as cityId, count(b) as count from Board b where b.plan.city is not null group by b.plan.city.id")
+    List<CityCount> countBoardsByCity();
+
+    //일정, 게시물 일괄 삭제 전 도시별 차감 수
+    @Query("select p.city.id as cityId, count(p) as count from Plan p where p.planId in :planIds and p.city is not null group by p.city.id")
+    List<CityCount> countPlansByCityIn(@Param("planIds") List<Long> planIds);
+
+    @Query("select b.plan.city.id as cityId, count(b) as count from Board b where b.boardId in :boardIds and b.plan.city is not null group by b.plan.city.id")
+    List<CityCount> countBoardsByCityIn(@Param("boardIds") List<Long> boardIds);
+
+    interface CityCount {
+        Long getCityId();
+        Long getCount();
+    }
+}
@@ -0,0 +1,113 @@
+package com.newyear.mainproject.city.service;
+
+import com.newyear.mainproject.city.entity.City;
+import com.newyear.mainproject.util.HangulUtil;
+
+import java.util.*;
+
+/**
+ * 도시 카탈로그 (불변)
+ * 도시 이름 -> City 조회, 자모/초성 prefix 검색, /city 응답 바이트(json, gzip)와 ETag 를 미리 만들어 둠
+ * 다시 읽을 때는 새 카탈로그를 만들어 통째로 교체
+ */
+public final class CityCatalog {
+
+    private final List<City> cities;
+    private final Map<String, City> cityByName;
+    private final PrefixTrie jamoTrie;
+    private final PrefixTrie chosungTrie;
+    private final byte[] json;
+    private final byte[] gzipJson;
+    private final String etag;
+
+    CityCatalog(List<City> cities, byte[] json, byte[] gzipJson, String etag) {
+        this.cities = List.copyOf(cities);
+        Map<String, City> byName = new HashMap<>();
+        cities.forEach(city -> byName.put(city.getCityName(), city));
+        this.cityByName = Map.copyOf(byName);
+
+        this.jamoTrie = new PrefixTrie();
+        this.chosungTrie = new PrefixTrie();
+        for (int i = 0; i < this.cities.size(); i++) {
+            //"경기도 수원시" 는 "경기도 수원시", "수원시" 둘 다로 검색 가능
+            for (String word : searchWords(this.cities.get(i).getCityName())) {
+                jamoTrie.insert(HangulUtil.toJamo(word), i);
+                chosungTrie.insert(HangulUtil.toChosung(word), i);
+            }
+        }
+        this.json = json;
+        this.gzipJson = gzipJson;
+        this.etag = etag;
+    }
+
+    public List<City> getCities() {
+        return cities;
+    }
+
+    public Optional<City> findByName(String cityName) {
+        return Optional.ofNullable(cityByName.get(cityName));
+    }
+
+    public List<City> search(String query, int limit) {
+        PrefixTrie trie = HangulUtil.isChosungOnly(query) ? chosungTrie : jamoTrie;
+        String key = trie == chosungTrie ? HangulUtil.toChosung(query) : HangulUtil.toJamo(query);
+        if (key.isEmpty()) return List.of();
+
+        List<City> result = new ArrayList<>();
+        for (int index : trie.find(key)) {
+            if (result.size() >= limit) break;
+            result.add(cities.get(index));
+        }
+        return result;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzipJson() {
+        return gzipJson;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    private static List<String> searchWords(String cityName) {
+        List<String> words = new ArrayList<>();
+        words.add(cityName);
+        int space = cityName.indexOf(' ');
+        while (space >= 0) {
+            words.add(cityName.substring(space + 1));
+            space = cityName.indexOf(' ', space + 1);
+        }
+        return words;
+    }
+
+    //생성자 안에서만 insert, 이후 읽기 전용
+    private static final class PrefixTrie {
+        private final Node root = new Node();
+
+        void insert(String key, int cityIndex) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.cityIndexes.add(cityIndex);
+            }
+        }
+
+        Set<Integer> find(String prefix) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node == null ? Set.of() : node.cityIndexes;
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        //이 prefix 로 시작하는 도시 (카탈로그 순서 유지)
+        private final Set<Integer> cityIndexes = new TreeSet<>();
+    }
+}
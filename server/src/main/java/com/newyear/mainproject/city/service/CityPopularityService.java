@@ -0,0 +1,190 @@
+package com.newyear.mainproject.city.service;
+
+import com.newyear.mainproject.board.entity.Board;
+import com.newyear.mainproject.city.entity.City;
+import com.newyear.mainproject.city.entity.CityPopularity;
+import com.newyear.mainproject.city.repository.CityPopularityRepository;
+import com.newyear.mainproject.plan.entity.Plan;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 도시 인기도 (일정 수 + 게시물 수)
+ * 일정/게시물 등록, 삭제 커밋 후 메모리 카운터 갱신 -> city.popularity.flush-interval 마다 변경분(delta)을 DB 값에 더함
+ * 저장 후 DB 값을 다시 읽어 다른 서버의 변경도 반영 (조회 값 = DB 값 + 아직 저장하지 않은 변경분)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CityPopularityService {
+
+    private final CityPopularityRepository popularityRepository;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    //시작 전에 들어온 변경분은 pending 에 남아 있으므로 DB 값만 읽음
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void init() {
+        if (popularityRepository.count() == 0) {
+            //처음 배포 시 한 번만 집계
+            Map<Long, long[]> counts = new HashMap<>();
+            popularityRepository.countPlansByCity().forEach(c -> counts.computeIfAbsent(c.getCityId(), id -> new long[2])[0] = c.getCount());
+            popularityRepository.countBoardsByCity().forEach(c -> counts.computeIfAbsent(c.getCityId(), id -> new long[2])[1] = c.getCount());
+            counts.forEach((cityId, count) -> popularityRepository.initialize(cityId, count[0], count[1]));
+        }
+        refresh();
+    }
+
+    public void planCreated(Plan plan) {
+        afterCommit(cityId(plan), 1, 0);
+    }
+
+    public void planDeleted(Plan plan) {
+        afterCommit(cityId(plan), -1, 0);
+    }
+
+    public void boardCreated(Board board) {
+        afterCommit(cityId(board.getPlan()), 0, 1);
+    }
+
+    public void boardDeleted(Board board) {
+        afterCommit(cityId(board.getPlan()), 0, -1);
+    }
+
+    /**
+     * 일괄 삭제 전 호출 - 삭제할 일정/게시물 수를 도시별로 집계해 차감
+     */
+    public void plansDeleted(List<Long> planIds) {
+        popularityRepository.countPlansByCityIn(planIds).forEach(c -> afterCommit(c.getCityId(), -c.getCount(), 0));
+    }
+
+    public void boardsDeleted(List<Long> boardIds) {
+        popularityRepository.countBoardsByCityIn(boardIds).forEach(c -> afterCommit(c.getCityId(), 0, -c.getCount()));
+    }
+
+    public long getPlanCount(Long cityId) {
+        Counter counter = counters.get(cityId);
+        return counter == null ? 0 : counter.savedPlans + counter.pendingPlans.get();
+    }
+
+    public long getBoardCount(Long cityId) {
+        Counter counter = counters.get(cityId);
+        return counter == null ? 0 : counter.savedBoards + counter.pendingBoards.get();
+    }
+
+    /**
+     * 인기순 정렬 (일정 수 + 게시물 수), 같으면 기존 순서
+     */
+    public List<City> sortByPopularity(List<City> cities) {
+        return cities.stream()
+                .sorted(Comparator.comparingLong((City city) -> getPlanCount(city.getId()) + getBoardCount(city.getId())).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시물이 있는 도시만 게시물 수 순으로
+     */
+    public List<City> citiesWithBoards(List<City> cities) {
+        return cities.stream()
+                .filter(city -> getBoardCount(city.getId()) > 0)
+                .sorted(Comparator.comparingLong((City city) -> getBoardCount(city.getId())).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Scheduled(fixedDelayString = "${city.popularity.flush-interval:60000}")
+    public synchronized void flush() {
+        for (Iterator<Long> iterator = dirty.iterator(); iterator.hasNext(); ) {
+            Long cityId = iterator.next();
+            iterator.remove();
+            Counter counter = counters.get(cityId);
+            long plans = counter.pendingPlans.getAndSet(0);
+            long boards = counter.pendingBoards.getAndSet(0);
+            if (plans == 0 && boards == 0) continue;
+
+            try {
+                popularityRepository.addCounts(cityId, plans, boards);
+                counter.savedPlans += plans;
+                counter.savedBoards += boards;
+            } catch (RuntimeException e) {
+                //변경분을 되돌려 다음 주기에 다시 저장
+                counter.pendingPlans.addAndGet(plans);
+                counter.pendingBoards.addAndGet(boards);
+                dirty.add(cityId);
+                log.warn("city popularity flush failed : {}", e.getMessage());
+                return;
+            }
+        }
+        refresh();
+    }
+
+    //다른 서버가 저장한 변경분 반영
+    private void refresh() {
+        try {
+            for (CityPopularity saved : popularityRepository.findAll()) {
+                Counter counter = counter(saved.getCityId());
+                counter.savedPlans = saved.getPlanCount();
+                counter.savedBoards = saved.getBoardCount();
+            }
+        } catch (RuntimeException e) {
+            log.warn("city popularity refresh failed : {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    //롤백된 변경은 반영하지 않도록 커밋 후 갱신
+    private void afterCommit(Long cityId, long plans, long boards) {
+        if (cityId == null) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(cityId, plans, boards);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(cityId, plans, boards);
+            }
+        });
+    }
+
+    private void apply(Long cityId, long plans, long boards) {
+        Counter counter = counter(cityId);
+        counter.pendingPlans.addAndGet(plans);
+        counter.pendingBoards.addAndGet(boards);
+        dirty.add(cityId);
+    }
+
+    private Counter counter(Long cityId) {
+        return counters.computeIfAbsent(cityId, id -> new Counter());
+    }
+
+    private static Long cityId(Plan plan) {
+        return plan == null || plan.getCity() == null ? null : plan.getCity().getId();
+    }
+
+    private static class Counter {
+        //마지막으로 읽거나 저장한 DB 값 (init, flush 에서만 갱신)
+        private volatile long savedPlans;
+        private volatile long savedBoards;
+        //아직 저장하지 않은 변경분
+        private final AtomicLong pendingPlans = new AtomicLong();
+        private final AtomicLong pendingBoards = new AtomicLong();
+    }
+}
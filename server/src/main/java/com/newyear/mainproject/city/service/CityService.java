@@ -1,33 +1,112 @@
 package com.newyear.mainproject.city.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newyear.mainproject.city.entity.City;
+import com.newyear.mainproject.city.mapper.CityMapper;
 import com.newyear.mainproject.city.repository.CityRepository;
+import com.newyear.mainproject.dto.SingleResponseDto;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.List;
-import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class CityService {
     private final CityRepository cityRepository;
+    private final CityMapper cityMapper;
+    private final ObjectMapper objectMapper;
 
+    private volatile CityCatalog catalog;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reloadCatalog();
+    }
+
+    /**
+     * 도시 카탈로그 다시 읽기 (관리자)
+     * 새 카탈로그를 다 만든 뒤 교체하므로 읽는 쪽은 이전/새 카탈로그 중 하나만 봄
+     */
+    public synchronized CityCatalog reloadCatalog() {
+        List<City> cities = cityRepository.findAll();
+        byte[] json = toJson(cities);
+        CityCatalog newCatalog = new CityCatalog(cities, json, gzip(json), etag(json));
+        catalog = newCatalog;
+        log.info("city catalog loaded : {} cities, etag {}", cities.size(), newCatalog.getEtag());
+        return newCatalog;
+    }
+
+    public CityCatalog getCatalog() {
+        CityCatalog current = catalog;
+        return current != null ? current : reloadCatalog();
+    }
 
     /**
      * 도시 데이터 불러오기
      */
     public List<City> findCities() {
-        return cityRepository.findAll();
+        return getCatalog().getCities();
     }
 
     /**
      * 도시 조회
      */
     public City findCity(String cityName) {
-        Optional<City> optionalCity = cityRepository.findByCityName(cityName);
-        return optionalCity.orElseThrow(() -> new BusinessLogicException(ExceptionCode.CITY_NOT_FOUND));
+        City city = getCatalog().findByName(cityName)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.CITY_NOT_FOUND));
+        //카탈로그의 City 는 공유 객체이므로 연관관계에는 프록시(select 없음)를 넘김
+        return cityRepository.getReferenceById(city.getId());
+    }
+
+    /**
+     * 도시 이름 자동완성 (자모/초성 prefix)
+     */
+    public List<City> searchCities(String query, int limit) {
+        return getCatalog().search(query, limit);
+    }
+
+    private byte[] toJson(List<City> cities) {
+        try {
+            return objectMapper.writeValueAsBytes(new SingleResponseDto<>(cityMapper.cityToCityResponseDtos(cities)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("city catalog serialization failed", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("city catalog compression failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    //응답 바이트 기준 strong ETag
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder("\"");
+            for (int i = 0; i < 16; i++) {
+                sb.append(String.format("%02x", hash[i]));
+            }
+            return sb.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -41,7 +41,7 @@ public interface CommentMapper {
                 String createdAt = DateUtil.convertLocalDatetimeToTime(comment.getCreatedAt());
                 String modifiedAt = DateUtil.convertLocalDatetimeToTime(comment.getModifiedAt());
                 Member member = comment.getMember();
-                list.add(new CommentDto.Response(comment.getCommentId(), comment.getComment(), createdAt, member.getDisplayName(), member.getProfileImage(), member.getMemberId(), modifiedAt));
+                list.add(new CommentDto.Response(comment.getCommentId(), comment.getComment(), createdAt, member.getDisplayName(), member.getSmallProfileImage(), member.getMemberId(), modifiedAt));
             }
             return list;
     }
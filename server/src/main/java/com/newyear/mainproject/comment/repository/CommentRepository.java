@@ -5,7 +5,24 @@ import com.newyear.mainproject.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findAllByBoard(Pageable pageable, Board board);
+
+    //회원 삭제, 게시물 삭제 시 일괄 삭제
+    @Query("select c.commentId from Comment c where c.member.memberId = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") long memberId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Comment c where c.commentId in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from Comment c where c.board.boardId in :boardIds")
+    int deleteByBoardIds(@Param("boardIds") List<Long> boardIds);
 }
@@ -39,7 +39,7 @@ public class CommentService {
     public Comment updateComment(Comment comment) {
         Comment findComment = verifyExistComment(comment.getCommentId());
         //작성자 아닐 경우 접근 불가
-        if (!findComment.getMember().getEmail().equals(memberService.getLoginMember().getEmail())) {
+        if (findComment.getMember().getMemberId() != memberService.getLoginMemberId()) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
         }
         Optional.ofNullable(comment.getComment())
@@ -57,7 +57,7 @@ public class CommentService {
     public void deleteComment(long commentId) {
         Comment findComment = verifyExistComment(commentId);
         //작성자 아닐 경우 접근 불가
-        if (!findComment.getMember().getEmail().equals(memberService.getLoginMember().getEmail())) {
+        if (findComment.getMember().getMemberId() != memberService.getLoginMemberId()) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
         }
         commentRepository.deleteById(commentId);
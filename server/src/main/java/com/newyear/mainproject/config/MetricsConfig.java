@@ -0,0 +1,73 @@
+package com.newyear.mainproject.config;
+
+import com.atomikos.jdbc.AbstractDataSourceBean;
+import com.newyear.mainproject.monitoring.QueryCountListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.commonspool2.CommonsObjectPool2Metrics;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * actuator 기본 지표(http, jvm, hibernate, lettuce) 외에 추가하는 지표
+ */
+@Configuration
+public class MetricsConfig {
+
+    //요청별 SQL 수 (RequestMetricsFilter) - DataSource 를 proxy 로 감쌈
+    @Bean
+    public static BeanPostProcessor queryCountDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) return bean;
+                return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                        .listener(new QueryCountListener())
+                        .build();
+            }
+        };
+    }
+
+    //redis 연결 풀 (commons.pool2.*, JMX 로 조회)
+    @Bean
+    public CommonsObjectPool2Metrics commonsObjectPool2Metrics() {
+        return new CommonsObjectPool2Metrics();
+    }
+
+    /**
+     * DB 연결 풀 - jta-atomikos 사용 시 DataSource 가 Atomikos 풀이라 actuator 가 jdbc.connections.* 를 만들지 않음
+     * hikari 와 같은 이름으로 등록
+     */
+    @Bean
+    public MeterBinder atomikosPoolMetrics(Map<String, DataSource> dataSources) {
+        return registry -> dataSources.forEach((name, dataSource) -> {
+            AbstractDataSourceBean pool = atomikosPool(dataSource);
+            if (pool == null) return;
+            Gauge.builder("jdbc.connections.active", pool, p -> p.poolTotalSize() - p.poolAvailableSize())
+                    .tag("name", name).register(registry);
+            Gauge.builder("jdbc.connections.idle", pool, AbstractDataSourceBean::poolAvailableSize)
+                    .tag("name", name).register(registry);
+            Gauge.builder("jdbc.connections.max", pool, AbstractDataSourceBean::getMaxPoolSize)
+                    .tag("name", name).register(registry);
+            Gauge.builder("jdbc.connections.min", pool, AbstractDataSourceBean::getMinPoolSize)
+                    .tag("name", name).register(registry);
+        });
+    }
+
+    private static AbstractDataSourceBean atomikosPool(DataSource dataSource) {
+        if (dataSource instanceof ProxyDataSource) dataSource = ((ProxyDataSource) dataSource).getDataSource();
+        if (dataSource instanceof AbstractDataSourceBean) return (AbstractDataSourceBean) dataSource;
+        try {
+            return dataSource.isWrapperFor(AbstractDataSourceBean.class) ? dataSource.unwrap(AbstractDataSourceBean.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
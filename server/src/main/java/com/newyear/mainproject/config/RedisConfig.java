@@ -1,14 +1,24 @@
 package com.newyear.mainproject.config;
 
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import com.newyear.mainproject.security.logout.TokenBlacklist;
+import com.newyear.mainproject.security.logout.TokenVersionService;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+
 @Configuration
 public class RedisConfig {
 
@@ -21,22 +31,70 @@ public class RedisConfig {
     @Value("${spring.redis.password}")
     private String password;
 
+    @Value("${spring.redis.timeout:2000}")
+    private long timeoutMillis;
+
+    @Value("${spring.redis.lettuce.pool.max-active:16}")
+    private int maxActive;
+
+    @Value("${spring.redis.lettuce.pool.max-idle:8}")
+    private int maxIdle;
+
+    @Value("${spring.redis.lettuce.pool.min-idle:2}")
+    private int minIdle;
+
+    @Value("${spring.redis.lettuce.pool.max-wait:500}")
+    private long maxWaitMillis;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
-        redisStandaloneConfiguration.setPassword(host);
+        redisStandaloneConfiguration.setHostName(host);
         redisStandaloneConfiguration.setPort(port);
         redisStandaloneConfiguration.setPassword(password);
-        return new LettuceConnectionFactory(redisStandaloneConfiguration);
+
+        //pipeline, 트랜잭션 명령은 풀의 전용 연결 사용 (일반 명령은 공유 연결)
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(maxActive);
+        poolConfig.setMaxIdle(maxIdle);
+        poolConfig.setMinIdle(minIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(maxWaitMillis));
+        //commons.pool2.* 지표 name 태그 (JMX)
+        poolConfig.setJmxNamePrefix("redis");
+
+        LettucePoolingClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .commandTimeout(Duration.ofMillis(timeoutMillis))
+                .build();
+
+        return new LettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration);
+    }
+
+    //문자열 값 (refresh token, 인증 번호, 방문 기록)
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
     }
 
+    //숫자 값 (카운터)
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    public RedisTemplate<String, Long> longRedisTemplate() {
+        RedisTemplate<String, Long> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericToStringSerializer<>(Long.class));
 
         return redisTemplate;
     }
+
+    //로그아웃 토큰, 토큰 버전 전파
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(TokenBlacklist tokenBlacklist,
+                                                                       TokenVersionService tokenVersionService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(tokenBlacklist, new ChannelTopic(TokenBlacklist.CHANNEL));
+        container.addMessageListener(tokenVersionService, new ChannelTopic(TokenVersionService.CHANNEL));
+        return container;
+    }
 }
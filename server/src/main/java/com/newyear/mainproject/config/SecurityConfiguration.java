@@ -1,12 +1,20 @@
 package com.newyear.mainproject.config;
 
-import com.newyear.mainproject.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newyear.mainproject.security.filter.JwtAuthenticationFilter;
 import com.newyear.mainproject.security.filter.JwtVerificationFilter;
 import com.newyear.mainproject.security.handler.*;
 import com.newyear.mainproject.security.jwt.JwtTokenizer;
+import com.newyear.mainproject.security.jwt.VerifiedTokenCache;
 import com.newyear.mainproject.security.logout.RedisUtil;
+import com.newyear.mainproject.security.logout.TokenBlacklist;
+import com.newyear.mainproject.security.logout.TokenVersionService;
+import com.newyear.mainproject.security.oauth.CustomOAuth2UserService;
+import com.newyear.mainproject.security.ratelimit.RateLimitFilter;
+import com.newyear.mainproject.security.ratelimit.RateLimitRule;
+import com.newyear.mainproject.security.ratelimit.RateLimiter;
 import com.newyear.mainproject.security.utils.CustomAuthorityUtils;
+import com.newyear.mainproject.security.utils.PasswordHashExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +28,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsUtils;
 
+import java.time.Duration;
+import java.util.List;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -27,8 +38,14 @@ import static org.springframework.security.config.Customizer.withDefaults;
 public class SecurityConfiguration {
     private final JwtTokenizer jwtTokenizer;
     private final CustomAuthorityUtils authorityUtils;
-    private final MemberRepository memberRepository;
+    private final CustomOAuth2UserService customOAuth2UserService;
     private final RedisUtil redisUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenVersionService tokenVersionService;
+    private final ObjectMapper objectMapper;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final RateLimiter rateLimiter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
@@ -59,10 +76,17 @@ public class SecurityConfiguration {
                         .requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
                                 .antMatchers(HttpMethod.POST, "/members/signup", "/members/login", "/login/**", "/email/**", "/token/reissue").permitAll()
                                 .antMatchers(HttpMethod.PATCH, "/members/**").hasRole("USER")
-                                .antMatchers(HttpMethod.POST, "/members/logout").permitAll()
+                                .antMatchers(HttpMethod.POST, "/members/logout", "/members/logout/all").permitAll()
                                 .antMatchers(HttpMethod.GET, "/members", "/board/user/plan/**").hasAnyRole("ADMIN", "USER")
-                                .antMatchers(HttpMethod.GET, "/", "/members/**", "/city", "/board", "/board/**", "/comments/**").permitAll() //추후 추가하기
+                                .antMatchers(HttpMethod.PUT, "/currency/rates").hasRole("ADMIN")
+                                .antMatchers(HttpMethod.POST, "/currency/rates/reload").hasRole("ADMIN")
+                                .antMatchers(HttpMethod.POST, "/city/reload").hasRole("ADMIN")
+                                .antMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll() //관리 포트 (외부 비공개)
+                                .antMatchers("/actuator/**").hasRole("ADMIN")
+                                .antMatchers(HttpMethod.GET, "/token/cache/stats", "/rate-limit/stats", "/email/outbox/stats", "/members/purge/**").hasRole("ADMIN")
+                                .antMatchers(HttpMethod.GET, "/", "/members/**", "/city", "/city/search", "/currency/rates", "/board", "/board/**", "/comments/**", "/files/**").permitAll() //추후 추가하기
                                 .antMatchers(HttpMethod.DELETE, "/members/**").hasRole("USER")
+                                .antMatchers(HttpMethod.PUT, "/files/upload").permitAll() //local 저장소 직접 업로드 (서명 확인)
                                 .antMatchers("/h2/**").permitAll() // h2 콘솔 사용을 위한 설정
                                 .antMatchers(HttpMethod.OPTIONS, "/api/**").permitAll()
                                 .antMatchers("/login/**", "/oauth2/**", "/loading/**").permitAll()
@@ -71,7 +95,8 @@ public class SecurityConfiguration {
                         .authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
-                        .successHandler(new OAuth2MemberSuccessHandler(jwtTokenizer, memberRepository, redisUtil))
+                        .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
+                        .successHandler(new OAuth2MemberSuccessHandler(jwtTokenizer, redisUtil))
                 );
 
         return http.build();
@@ -91,16 +116,32 @@ public class SecurityConfiguration {
             AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
 
             //wtAuthenticationFilter를 생성하면서 JwtAuthenticationFilter에서 사용되는 AuthenticationManager와 JwtTokenizer를 DI해줌
-            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, jwtTokenizer, redisUtil);
+            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, jwtTokenizer, redisUtil, objectMapper, passwordHashExecutor);
             jwtAuthenticationFilter.setFilterProcessesUrl("/members/login/**");
             jwtAuthenticationFilter.setAuthenticationSuccessHandler(new MemberAuthenticationSuccessHandler());
             jwtAuthenticationFilter.setAuthenticationFailureHandler(new MemberAuthenticationFailureHandler());
 
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils, redisUtil);
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils, tokenBlacklist, tokenVersionService, verifiedTokenCache);
+
+            //비회원 요청 제한 (IP 기준) - 로그인 BCrypt, 메일 발송 전에 차단
+            RateLimitFilter ipRateLimitFilter = new RateLimitFilter(rateLimiter, List.of(
+                    RateLimitRule.perIp("login", "/members/login/**", 10, Duration.ofMinutes(1), HttpMethod.POST),
+                    RateLimitRule.perIp("signup", "/members/signup", 5, Duration.ofMinutes(10), HttpMethod.POST),
+                    RateLimitRule.perIp("email", "/email/**", 5, Duration.ofMinutes(10), HttpMethod.POST),
+                    RateLimitRule.perIp("reissue", "/token/reissue", 30, Duration.ofMinutes(1), HttpMethod.POST)
+            ));
+
+            //회원 쓰기 요청 제한 (회원 id 기준, 비회원은 IP) - 토큰 검증 후
+            RateLimitFilter memberRateLimitFilter = new RateLimitFilter(rateLimiter, List.of(
+                    RateLimitRule.perMember("likes", "/board/*/likes", 30, Duration.ofMinutes(1), HttpMethod.POST),
+                    RateLimitRule.perMember("write", "/**", 120, Duration.ofMinutes(1), HttpMethod.POST, HttpMethod.PATCH, HttpMethod.PUT, HttpMethod.DELETE)
+            ));
 
             builder
                     .addFilter(jwtAuthenticationFilter)
-                    .addFilterAfter(jwtVerificationFilter, JwtAuthenticationFilter.class);
+                    .addFilterBefore(ipRateLimitFilter, JwtAuthenticationFilter.class)
+                    .addFilterAfter(jwtVerificationFilter, JwtAuthenticationFilter.class)
+                    .addFilterAfter(memberRateLimitFilter, JwtVerificationFilter.class);
         }
     }
 }
@@ -0,0 +1,49 @@
+package com.newyear.mainproject.currency.controller;
+
+import com.newyear.mainproject.currency.dto.CurrencyDto;
+import com.newyear.mainproject.currency.service.FxRateService;
+import com.newyear.mainproject.currency.service.FxRateSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+
+@RestController
+@RequestMapping("/currency")
+@Validated
+@RequiredArgsConstructor
+public class CurrencyController {
+
+    private final FxRateService fxRateService;
+
+    /**
+     * 환율 조회
+     */
+    @GetMapping("/rates")
+    public ResponseEntity getRates() {
+        return new ResponseEntity<>(toResponse(fxRateService.getSnapshot()), HttpStatus.OK);
+    }
+
+    /**
+     * 환율 교체 (관리자)
+     */
+    @PutMapping("/rates")
+    public ResponseEntity putRates(@RequestBody @Valid CurrencyDto.RatesPut put) {
+        return new ResponseEntity<>(toResponse(fxRateService.updateRates(put.getRates())), HttpStatus.OK);
+    }
+
+    /**
+     * 환율 파일 다시 읽기 (관리자)
+     */
+    @PostMapping("/rates/reload")
+    public ResponseEntity reloadRates() {
+        return new ResponseEntity<>(toResponse(fxRateService.reload()), HttpStatus.OK);
+    }
+
+    private CurrencyDto.RatesResponse toResponse(FxRateSnapshot snapshot) {
+        return new CurrencyDto.RatesResponse(FxRateSnapshot.BASE_CURRENCY, snapshot.toRateMap());
+    }
+}
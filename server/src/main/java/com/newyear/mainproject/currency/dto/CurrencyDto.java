@@ -0,0 +1,30 @@
+package com.newyear.mainproject.currency.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.constraints.NotEmpty;
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class CurrencyDto {
+
+    @Getter @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RatesPut {
+        //통화 코드 -> 1 단위당 KRW
+        @NotEmpty
+        private Map<String, BigDecimal> rates;
+    }
+
+    @Getter @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RatesResponse {
+        private String baseCurrency;
+        private Map<String, BigDecimal> rates;
+    }
+}
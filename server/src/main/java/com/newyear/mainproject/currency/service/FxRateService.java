@@ -0,0 +1,125 @@
+package com.newyear.mainproject.currency.service;
+
+import com.newyear.mainproject.budget.repository.BudgetRepository;
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.expense.repository.ExpenseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 환율 (기준 통화 KRW)
+ * 교체 시 지출/예산에 이미 쓰인 통화가 빠지면 거절 (환산할 수 없게 되므로)
+ * 금액(price)은 통화의 기본 단위 정수 - USD, EUR 등의 센트 단위는 저장하지 않음
+ */
+@Service
+@Slf4j
+public class FxRateService {
+
+    private final Resource rateFile;
+    private final ExpenseRepository expenseRepository;
+    private final BudgetRepository budgetRepository;
+    private volatile FxRateSnapshot snapshot = FxRateSnapshot.of(Map.of());
+
+    public FxRateService(@Value("${fx.rates.location:classpath:fx-rates.properties}") Resource rateFile,
+                         ExpenseRepository expenseRepository, BudgetRepository budgetRepository) {
+        this.rateFile = rateFile;
+        this.expenseRepository = expenseRepository;
+        this.budgetRepository = budgetRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (rateFile.exists()) {
+            //시작 시에는 이전 환율이 없으므로 그대로 적용하고 빠진 통화만 경고
+            apply(readRateFile(), false);
+        } else {
+            log.warn("fx rate file not found : {}", rateFile.getDescription());
+        }
+    }
+
+    /**
+     * 환율 파일 다시 읽기
+     */
+    public FxRateSnapshot reload() {
+        return updateRates(readRateFile());
+    }
+
+    /**
+     * 환율 교체 (관리자)
+     */
+    public FxRateSnapshot updateRates(Map<String, BigDecimal> rates) {
+        return apply(rates, true);
+    }
+
+    private Map<String, BigDecimal> readRateFile() {
+        Properties properties = new Properties();
+        try (InputStream inputStream = rateFile.getInputStream()) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            log.error("fx rate file load failed", e);
+            throw new BusinessLogicException(ExceptionCode.INTERNAL_SERVER_ERROR);
+        }
+
+        Map<String, BigDecimal> rates = new HashMap<>();
+        properties.stringPropertyNames()
+                .forEach(currency -> rates.put(currency, new BigDecimal(properties.getProperty(currency).trim())));
+        return rates;
+    }
+
+    private FxRateSnapshot apply(Map<String, BigDecimal> rates, boolean rejectMissing) {
+        FxRateSnapshot newSnapshot;
+        try {
+            newSnapshot = FxRateSnapshot.of(rates);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
+        }
+
+        Set<String> missing = missingCurrencies(newSnapshot);
+        if (!missing.isEmpty()) {
+            if (rejectMissing) {
+                log.warn("fx rates rejected, currencies in use are missing : {}", missing);
+                throw new BusinessLogicException(ExceptionCode.CURRENCY_IN_USE);
+            }
+            log.error("fx rates missing currencies in use : {}", missing);
+        }
+        snapshot = newSnapshot;
+        log.info("fx rates updated : {}", rates.keySet());
+        return newSnapshot;
+    }
+
+    private Set<String> missingCurrencies(FxRateSnapshot newSnapshot) {
+        Set<String> missing = new TreeSet<>(expenseRepository.findCurrencies());
+        missing.addAll(budgetRepository.findCurrencies());
+        missing.removeIf(newSnapshot::supports);
+        return missing;
+    }
+
+    public FxRateSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 지원하는 통화인지 확인
+     */
+    public String verifyCurrency(String currency) {
+        if (currency == null) return null;
+        String code = currency.toUpperCase();
+        if (!snapshot.supports(code)) {
+            throw new BusinessLogicException(ExceptionCode.CURRENCY_NOT_SUPPORTED);
+        }
+        return code;
+    }
+}
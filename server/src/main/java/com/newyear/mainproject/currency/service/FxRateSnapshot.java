@@ -0,0 +1,68 @@
+package com.newyear.mainproject.currency.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 환율 스냅샷 (불변)
+ * 환율은 기준 통화(KRW) 1 단위 대비 값으로, RATE_SCALE 배 한 정수(fixed-point)로 보관
+ * 갱신 시 새 스냅샷을 만들어 교체하므로 조회 시 lock 불필요
+ */
+public final class FxRateSnapshot {
+
+    public static final String BASE_CURRENCY = "KRW";
+    public static final long RATE_SCALE = 1_000_000L;
+
+    private final Map<String, Long> rates;
+
+    private FxRateSnapshot(Map<String, Long> rates) {
+        this.rates = rates;
+    }
+
+    /**
+     * @param rates 통화 코드 -> 1 단위당 기준 통화 금액 (ex. USD -> 1300.25)
+     */
+    public static FxRateSnapshot of(Map<String, BigDecimal> rates) {
+        Map<String, Long> scaled = new HashMap<>();
+        rates.forEach((currency, rate) -> {
+            if (rate.signum() <= 0) {
+                throw new IllegalArgumentException("Invalid fx rate : " + currency);
+            }
+            scaled.put(currency.toUpperCase(), rate.movePointRight(6).setScale(0, RoundingMode.HALF_UP).longValueExact());
+        });
+        scaled.put(BASE_CURRENCY, RATE_SCALE);
+        return new FxRateSnapshot(Map.copyOf(scaled));
+    }
+
+    public boolean supports(String currency) {
+        return rates.containsKey(currency);
+    }
+
+    /**
+     * from 통화 금액을 to 통화 금액으로 변환 (반올림)
+     */
+    public long convert(long amount, String from, String to) {
+        if (from.equals(to)) return amount;
+
+        long fromRate = rateOf(from);
+        long toRate = rateOf(to);
+        long base = Math.multiplyExact(amount, fromRate);
+        return base >= 0 ? (base + toRate / 2) / toRate : (base - toRate / 2) / toRate;
+    }
+
+    public Map<String, BigDecimal> toRateMap() {
+        Map<String, BigDecimal> map = new HashMap<>();
+        rates.forEach((currency, rate) -> map.put(currency, BigDecimal.valueOf(rate, 6).stripTrailingZeros()));
+        return map;
+    }
+
+    private long rateOf(String currency) {
+        Long rate = rates.get(currency);
+        if (rate == null) {
+            throw new IllegalArgumentException("Unsupported currency : " + currency);
+        }
+        return rate;
+    }
+}
@@ -10,6 +10,9 @@ public enum ExceptionCode {
     METHOD_NOT_ALLOWED(405, "Method Not Allowed"),
     INTERNAL_SERVER_ERROR(500, "Internal Server Error"),
     NOT_IMPLEMENTATION(501, "Not Implementation"),
+    SERVICE_UNAVAILABLE(503, "Service Unavailable"),
+    FILE_UPLOAD_FAILED(500, "File upload failed"),
+    FILE_NOT_FOUND(404, "File not found"),
     INVALID_VALUES(400, "Invalid Values"),
     INVALID_EMAIL_AUTH_NUMBER(400, "Invalid email authNumber"),
     INVALID_EMAIL_AUTH(400, "Invalid email auth"),
@@ -55,6 +58,10 @@ public enum ExceptionCode {
     CITY_NOT_FOUND(404, "City Not Found"),
     CITY_CHECK_EXISTS(409, "City Check exists"),
 
+    //currency
+    CURRENCY_NOT_SUPPORTED(400, "Currency not supported"),
+    CURRENCY_IN_USE(409, "Currency in use"),
+
     //member
     INVALID_MEMBER_STATUS(400, "Invalid member status"),
     MAX_FILE_SIZE_2MB(400, "Max file size 2MB"),
@@ -9,6 +9,7 @@ import lombok.Setter;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 
 public class ExpenseDto {
@@ -25,6 +26,10 @@ public class ExpenseDto {
 
         @NotBlank
         private String category;
+
+        //미입력시 예산 통화
+        @Pattern(regexp = "[A-Za-z]{3}")
+        private String currency;
     }
 
     @Getter
@@ -40,6 +45,9 @@ public class ExpenseDto {
 
         @NotBlank
         private String category;
+
+        @Pattern(regexp = "[A-Za-z]{3}")
+        private String currency;
     }
 
     @Getter
@@ -53,6 +61,7 @@ public class ExpenseDto {
         private String category;
         private String createdAt;
         private String placeName;
+        private String currency;
     }
 
     @Getter
@@ -73,8 +82,21 @@ public class ExpenseDto {
         private String item;
         private int price;
         private String category;
+        private String currency;
         private String createdAt;
         private PlaceDto.SimpleResponse places;
     }
 
+    //회원 지출 통계 (groupBy 기준 합계)
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SpendingResponse {
+        private String groupKey;
+        //기준 통화(KRW) 환산 합계
+        private long totalPrice;
+        private long expenseCount;
+    }
+
 }
@@ -0,0 +1,55 @@
+package com.newyear.mainproject.expense.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 회원별 지출 집계 (member, city, category, day, currency)
+ * ExpenseService 에서 지출 등록/수정/삭제 시 증분 갱신
+ */
+@Getter @Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "expense_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_expense_rollup",
+                columnNames = {"member_id", "city_name", "category", "spend_date", "currency"}),
+        indexes = @Index(name = "idx_expense_rollup_member", columnList = "member_id"))
+public class ExpenseRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "city_name", nullable = false)
+    private String cityName;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(name = "spend_date", nullable = false)
+    private LocalDate spendDate;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false)
+    private long totalPrice;
+
+    @Column(nullable = false)
+    private long expenseCount;
+
+    public ExpenseRollup(Long memberId, String cityName, String category, LocalDate spendDate, String currency) {
+        this.memberId = memberId;
+        this.cityName = cityName;
+        this.category = category;
+        this.spendDate = spendDate;
+        this.currency = currency;
+    }
+}
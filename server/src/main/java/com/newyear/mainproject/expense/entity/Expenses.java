@@ -2,6 +2,7 @@ package com.newyear.mainproject.expense.entity;
 
 import com.newyear.mainproject.audit.Auditable;
 import com.newyear.mainproject.budget.entity.Budget;
+import com.newyear.mainproject.currency.service.FxRateSnapshot;
 import com.newyear.mainproject.place.entity.Place;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,6 +27,9 @@ public class Expenses extends Auditable {
     @Column(nullable = false)
     private String category;
 
+    @Column(nullable = false, length = 3)
+    private String currency = FxRateSnapshot.BASE_CURRENCY; //통화 코드 (ISO 4217)
+
     @ManyToOne
     @JoinColumn(name = "budget_id")
     private Budget budget;
@@ -19,6 +19,7 @@ public interface ExpenseMapper {
         response.setItem( expenses.getItem() );
         response.setPrice( expenses.getPrice() );
         response.setCategory(expenses.getCategory());
+        response.setCurrency(expenses.getCurrency());
         response.setCreatedAt(expenses.getCreatedAt().toString().substring(0, 10));
 
         return response;
@@ -30,6 +31,7 @@ public interface ExpenseMapper {
         response.setItem(expenses.getItem());
         response.setPrice(expenses.getPrice());
         response.setCategory(expenses.getCategory());
+        response.setCurrency(expenses.getCurrency());
         response.setCreatedAt(expenses.getCreatedAt().toString().substring(0, 10));
         response.setPlaces(placeToPlaceSimpleResponseDto(expenses.getPlace()));
 
@@ -2,9 +2,43 @@ package com.newyear.mainproject.expense.repository;
 
 import com.newyear.mainproject.expense.entity.Expenses;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ExpenseRepository extends JpaRepository<Expenses, Long> {
     List<Expenses> findAllByPlacePlaceId(Long placeId);
+
+    //환율 교체 시 사용 중인 통화 확인
+    @Query("select distinct e.currency from Expenses e")
+    List<String> findCurrencies();
+
+    //지출 내보내기용 - 엔티티 대신 행 단위 projection 을 cursor 로 읽음 (MySQL : fetch size MIN_VALUE 시 streaming)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "" + Integer.MIN_VALUE))
+    @Query("select e.expenseId as expenseId, e.item as item, e.price as price, e.currency as currency, e.category as category, " +
+            "p.placeName as placeName, e.createdAt as createdAt " +
+            "from Expenses e left join e.place p where e.budget.budgetId = :budgetId order by e.expenseId")
+    Stream<ExportRow> streamExportRows(@Param("budgetId") Long budgetId);
+
+    interface ExportRow {
+        Long getExpenseId();
+        String getItem();
+        Integer getPrice();
+        String getCurrency();
+        String getCategory();
+        String getPlaceName();
+        LocalDateTime getCreatedAt();
+    }
+
+    //일정 삭제 시 일괄 삭제 (예산, 장소에 연결된 지출)
+    @Modifying
+    @Query("delete from Expenses e where e.budget.budgetId in (select b.budgetId from Budget b where b.plan.planId in :planIds) " +
+            "or e.place.placeId in (select pl.placeId from Place pl where pl.plan.planId in :planIds)")
+    int deleteByPlanIds(@Param("planIds") List<Long> planIds);
 }
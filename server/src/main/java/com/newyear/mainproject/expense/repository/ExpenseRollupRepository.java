@@ -0,0 +1,72 @@
+package com.newyear.mainproject.expense.repository;
+
+import com.newyear.mainproject.expense.entity.ExpenseRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ExpenseRollupRepository extends JpaRepository<ExpenseRollup, Long> {
+
+    @Modifying
+    @Query("update ExpenseRollup r set r.totalPrice = r.totalPrice + :price, r.expenseCount = r.expenseCount + :count " +
+            "where r.memberId = :memberId and r.cityName = :cityName and r.category = :category " +
+            "and r.spendDate = :spendDate and r.currency = :currency")
+    int accumulate(@Param("memberId") Long memberId, @Param("cityName") String cityName,
+                   @Param("category") String category, @Param("spendDate") LocalDate spendDate,
+                   @Param("currency") String currency, @Param("price") long price, @Param("count") long count);
+
+    //첫 지출이 동시에 들어와도 한 행으로 합침 (uk_expense_rollup)
+    @Modifying
+    @Query(value = "insert into expense_rollup (member_id, city_name, category, spend_date, currency, total_price, expense_count) " +
+            "values (:memberId, :cityName, :category, :spendDate, :currency, :price, :count) " +
+            "on duplicate key update total_price = total_price + :price, expense_count = expense_count + :count", nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId, @Param("cityName") String cityName,
+               @Param("category") String category, @Param("spendDate") LocalDate spendDate,
+               @Param("currency") String currency, @Param("price") long price, @Param("count") long count);
+
+    //예산 삭제 시 그 예산의 지출을 (category, day, currency) 별로 묶어 한 번에 차감 (지출 삭제 전에 실행)
+    @Modifying
+    @Query(value = "update expense_rollup r set " +
+            "r.total_price = r.total_price - (select coalesce(sum(e.price), 0) from expenses e where e.budget_id = :budgetId " +
+            "and e.category = r.category and e.currency = r.currency and cast(e.created_at as date) = r.spend_date), " +
+            "r.expense_count = r.expense_count - (select count(*) from expenses e where e.budget_id = :budgetId " +
+            "and e.category = r.category and e.currency = r.currency and cast(e.created_at as date) = r.spend_date) " +
+            "where r.member_id = :memberId and r.city_name = :cityName and exists (select 1 from expenses e where e.budget_id = :budgetId " +
+            "and e.category = r.category and e.currency = r.currency and cast(e.created_at as date) = r.spend_date)", nativeQuery = true)
+    int subtractBudget(@Param("budgetId") Long budgetId, @Param("memberId") Long memberId, @Param("cityName") String cityName);
+
+    @Modifying
+    @Query("delete from ExpenseRollup r where r.memberId = :memberId")
+    void deleteAllByMemberId(@Param("memberId") Long memberId);
+
+    @Query("select r.category as groupKey, r.currency as currency, sum(r.totalPrice) as totalPrice, sum(r.expenseCount) as expenseCount " +
+            "from ExpenseRollup r where r.memberId = :memberId group by r.category, r.currency order by r.category")
+    List<SpendingSummary> sumByCategory(@Param("memberId") Long memberId);
+
+    @Query("select r.cityName as groupKey, r.currency as currency, sum(r.totalPrice) as totalPrice, sum(r.expenseCount) as expenseCount " +
+            "from ExpenseRollup r where r.memberId = :memberId group by r.cityName, r.currency order by r.cityName")
+    List<SpendingSummary> sumByCity(@Param("memberId") Long memberId);
+
+    @Query("select r.spendDate as groupKey, r.currency as currency, sum(r.totalPrice) as totalPrice, sum(r.expenseCount) as expenseCount " +
+            "from ExpenseRollup r where r.memberId = :memberId group by r.spendDate, r.currency order by r.spendDate")
+    List<SpendingSummary> sumByDay(@Param("memberId") Long memberId);
+
+    //전체 재집계 (backfill)
+    @Modifying
+    @Query(value = "insert into expense_rollup (member_id, city_name, category, spend_date, currency, total_price, expense_count) " +
+            "select p.member_id, p.city_name, e.category, cast(e.created_at as date), e.currency, sum(e.price), count(*) " +
+            "from expenses e join budget b on e.budget_id = b.budget_id join plan p on b.plan_id = p.plan_id " +
+            "group by p.member_id, p.city_name, e.category, cast(e.created_at as date), e.currency", nativeQuery = true)
+    int rebuildAll();
+
+    interface SpendingSummary {
+        Object getGroupKey();
+        String getCurrency();
+        Long getTotalPrice();
+        Long getExpenseCount();
+    }
+}
@@ -0,0 +1,117 @@
+package com.newyear.mainproject.expense.service;
+
+import com.newyear.mainproject.budget.service.BudgetService;
+import com.newyear.mainproject.expense.repository.ExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * 예산의 지출 내역 내보내기 (csv / xlsx)
+ * 지출 목록을 한번에 메모리에 올리지 않고 cursor 로 한 행씩 읽어 response 로 바로 씀
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ExpenseExportService {
+
+    private static final String[] HEADERS = {"expenseId", "item", "price", "currency", "category", "placeName", "createdAt"};
+    //xlsx 작성시 메모리에 유지할 행 수 (나머지는 임시 파일로 flush)
+    private static final int XLSX_WINDOW_SIZE = 100;
+
+    private final ExpenseRepository expenseRepository;
+    private final BudgetService budgetService;
+
+    public void exportCsv(long budgetId, OutputStream outputStream) throws IOException {
+        //자신의 예산만 내보내기 가능
+        budgetService.findBudget(budgetId);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write('\uFEFF'); //엑셀에서 한글 깨짐 방지 (BOM)
+        writer.write(String.join(",", HEADERS));
+        writer.write("\r\n");
+
+        try (Stream<ExpenseRepository.ExportRow> rows = expenseRepository.streamExportRows(budgetId)) {
+            rows.forEach(row -> {
+                try {
+                    writer.write(String.valueOf(row.getExpenseId()));
+                    writer.write(',');
+                    writer.write(escapeCsv(row.getItem()));
+                    writer.write(',');
+                    writer.write(String.valueOf(row.getPrice()));
+                    writer.write(',');
+                    writer.write(escapeCsv(row.getCurrency()));
+                    writer.write(',');
+                    writer.write(escapeCsv(row.getCategory()));
+                    writer.write(',');
+                    writer.write(escapeCsv(row.getPlaceName()));
+                    writer.write(',');
+                    writer.write(createdDate(row));
+                    writer.write("\r\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    public void exportXlsx(long budgetId, OutputStream outputStream) throws IOException {
+        budgetService.findBudget(budgetId);
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW_SIZE);
+        try (Stream<ExpenseRepository.ExportRow> rows = expenseRepository.streamExportRows(budgetId)) {
+            Sheet sheet = workbook.createSheet("expenses");
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
+
+            int[] rowIndex = {1};
+            rows.forEach(row -> {
+                Row line = sheet.createRow(rowIndex[0]++);
+                line.createCell(0).setCellValue(row.getExpenseId());
+                line.createCell(1).setCellValue(row.getItem());
+                line.createCell(2).setCellValue(row.getPrice());
+                line.createCell(3).setCellValue(row.getCurrency());
+                line.createCell(4).setCellValue(row.getCategory());
+                line.createCell(5).setCellValue(row.getPlaceName());
+                line.createCell(6).setCellValue(createdDate(row));
+            });
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose(); //임시 파일 삭제
+            workbook.close();
+        }
+    }
+
+    private String createdDate(ExpenseRepository.ExportRow row) {
+        return row.getCreatedAt() == null ? "" : row.getCreatedAt().toLocalDate().toString();
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) return "";
+        //엑셀에서 수식으로 실행되지 않도록 (=, +, -, @, tab, CR 로 시작하면 ' 를 붙임)
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
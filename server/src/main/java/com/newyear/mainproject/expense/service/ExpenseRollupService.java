@@ -0,0 +1,127 @@
+package com.newyear.mainproject.expense.service;
+
+import com.newyear.mainproject.currency.service.FxRateService;
+import com.newyear.mainproject.currency.service.FxRateSnapshot;
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.budget.entity.Budget;
+import com.newyear.mainproject.expense.dto.ExpenseDto;
+import com.newyear.mainproject.expense.entity.Expenses;
+import com.newyear.mainproject.expense.repository.ExpenseRollupRepository;
+import com.newyear.mainproject.plan.entity.Plan;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ExpenseRollupService {
+
+    private final ExpenseRollupRepository rollupRepository;
+    private final FxRateService fxRateService;
+
+    /**
+     * 지출 등록 시 집계 증가
+     */
+    public void add(Expenses expenses) {
+        apply(expenses, expenses.getCategory(), expenses.getCurrency(), expenses.getPrice(), 1);
+    }
+
+    /**
+     * 지출 삭제 시 집계 감소
+     */
+    public void remove(Expenses expenses) {
+        apply(expenses, expenses.getCategory(), expenses.getCurrency(), -expenses.getPrice(), -1);
+    }
+
+    /**
+     * 예산(일정) 삭제 시 예산의 지출 집계를 한 번에 차감 - 지출 행을 지우기 전에 호출
+     */
+    public void removeBudget(Budget budget) {
+        Plan plan = budget.getPlan();
+        rollupRepository.subtractBudget(budget.getBudgetId(), plan.getMember().getMemberId(), plan.getCityName());
+    }
+
+    /**
+     * 지출 수정 시 이전 값 차감 후 새 값 반영
+     */
+    public void change(Expenses expenses, String oldCategory, int oldPrice, String oldCurrency) {
+        if (oldCategory.equals(expenses.getCategory()) && oldCurrency.equals(expenses.getCurrency())) {
+            if (oldPrice != expenses.getPrice()) {
+                apply(expenses, oldCategory, oldCurrency, expenses.getPrice() - oldPrice, 0);
+            }
+            return;
+        }
+        apply(expenses, oldCategory, oldCurrency, -oldPrice, -1);
+        apply(expenses, expenses.getCategory(), expenses.getCurrency(), expenses.getPrice(), 1);
+    }
+
+    public void deleteMemberRollup(long memberId) {
+        rollupRepository.deleteAllByMemberId(memberId);
+    }
+
+    /**
+     * 회원 지출 조회 (groupBy : category / city / day)
+     * 통화별 합계를 기준 통화(KRW)로 환산해 합침
+     */
+    @Transactional(readOnly = true)
+    public List<ExpenseDto.SpendingResponse> findSpending(long memberId, String groupBy) {
+        List<ExpenseRollupRepository.SpendingSummary> summaries;
+        switch (groupBy) {
+            case "category":
+                summaries = rollupRepository.sumByCategory(memberId);
+                break;
+            case "city":
+                summaries = rollupRepository.sumByCity(memberId);
+                break;
+            case "day":
+                summaries = rollupRepository.sumByDay(memberId);
+                break;
+            default:
+                throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
+        }
+
+        FxRateSnapshot rates = fxRateService.getSnapshot();
+        Map<String, ExpenseDto.SpendingResponse> spending = new LinkedHashMap<>();
+        for (ExpenseRollupRepository.SpendingSummary summary : summaries) {
+            ExpenseDto.SpendingResponse response = spending.computeIfAbsent(String.valueOf(summary.getGroupKey()),
+                    key -> new ExpenseDto.SpendingResponse(key, 0, 0));
+            response.setTotalPrice(response.getTotalPrice()
+                    + rates.convert(summary.getTotalPrice(), summary.getCurrency(), FxRateSnapshot.BASE_CURRENCY));
+            response.setExpenseCount(response.getExpenseCount() + summary.getExpenseCount());
+        }
+        return new ArrayList<>(spending.values());
+    }
+
+    /**
+     * 전체 재집계 (backfill) - expense.rollup.rebuild-cron 설정 시 실행
+     */
+    @Scheduled(cron = "${expense.rollup.rebuild-cron:-}")
+    public void rebuild() {
+        rollupRepository.deleteAllInBatch();
+        int rows = rollupRepository.rebuildAll();
+        log.info("expense rollup rebuild : {} rows", rows);
+    }
+
+    private void apply(Expenses expenses, String category, String currency, long price, long count) {
+        Plan plan = expenses.getBudget().getPlan();
+        Long memberId = plan.getMember().getMemberId();
+        LocalDate spendDate = expenses.getCreatedAt() == null ? LocalDate.now() : expenses.getCreatedAt().toLocalDate();
+
+        if (count > 0) {
+            rollupRepository.upsert(memberId, plan.getCityName(), category, spendDate, currency, price, count);
+        } else {
+            rollupRepository.accumulate(memberId, plan.getCityName(), category, spendDate, currency, price, count);
+        }
+    }
+}
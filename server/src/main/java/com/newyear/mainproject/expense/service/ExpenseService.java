@@ -2,11 +2,12 @@ package com.newyear.mainproject.expense.service;
 
 import com.newyear.mainproject.budget.entity.Budget;
 import com.newyear.mainproject.budget.service.BudgetService;
+import com.newyear.mainproject.currency.service.FxRateService;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
 import com.newyear.mainproject.expense.entity.Expenses;
 import com.newyear.mainproject.expense.repository.ExpenseRepository;
-import com.newyear.mainproject.member.service.MemberService;
+import com.newyear.mainproject.plan.service.PlanOwnershipService;
 import com.newyear.mainproject.place.entity.Place;
 import com.newyear.mainproject.place.service.PlaceService;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +24,9 @@ public class ExpenseService {
     private final ExpenseRepository expenseRepository;
     private final BudgetService budgetService;
     private final PlaceService placeService;
-    private final MemberService memberService;
+    private final PlanOwnershipService ownershipService;
+    private final ExpenseRollupService rollupService;
+    private final FxRateService fxRateService;
 
     public Expenses createExpense(Expenses expenses, long budgetId, Long placeId) {
         if (expenses.getItem() != null && expenses.getItem().trim().isEmpty()) {
@@ -41,17 +44,25 @@ public class ExpenseService {
             expenses.setPlace(place);
         }
 
+        //예산 작성자만 지출 등록 가능 (findBudget 에서 확인)
         Budget budget = budgetService.findBudget(budgetId);
         expenses.setBudget(budget);
-        accessExpense(expenses);
+        //통화 미입력시 예산 통화
+        expenses.setCurrency(Optional.ofNullable(fxRateService.verifyCurrency(expenses.getCurrency()))
+                .orElse(budget.getCurrency()));
 
-        return expenseRepository.save(expenses);
+        Expenses savedExpenses = expenseRepository.save(expenses);
+        rollupService.add(savedExpenses);
+        return savedExpenses;
     }
 
     public Expenses updateExpense(Expenses expenses) {
+        ownershipService.verifyExpenseOwner(expenses.getExpenseId());
         Expenses findExpenses = findExistExpense(expenses.getExpenseId());
 
-        accessExpense(findExpenses);
+        String oldCategory = findExpenses.getCategory();
+        int oldPrice = findExpenses.getPrice();
+        String oldCurrency = findExpenses.getCurrency();
 
         Optional.ofNullable(expenses.getItem())
                 .ifPresent(findExpenses::setItem);
@@ -59,14 +70,18 @@ public class ExpenseService {
                 .ifPresent(findExpenses::setPrice);
         Optional.ofNullable(expenses.getCategory())
                 .ifPresent(findExpenses::setCategory);
+        Optional.ofNullable(fxRateService.verifyCurrency(expenses.getCurrency()))
+                .ifPresent(findExpenses::setCurrency);
 
+        rollupService.change(findExpenses, oldCategory, oldPrice, oldCurrency);
         return expenseRepository.save(findExpenses);
     }
 
 
     public void deleteExpense(long expenseId) {
+        ownershipService.verifyExpenseOwner(expenseId);
         Expenses findExpense = findExistExpense(expenseId);
-        accessExpense(findExpense);
+        rollupService.remove(findExpense);
         expenseRepository.delete(findExpense);
     }
 
@@ -74,10 +89,4 @@ public class ExpenseService {
         return expenseRepository.findById(expenseId)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.EXPENSE_NOT_FOUND));
     }
-
-    private void accessExpense(Expenses expenses) {
-        if (!expenses.getBudget().getPlan().getMember().equals(memberService.getLoginMember())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
-    }
 }
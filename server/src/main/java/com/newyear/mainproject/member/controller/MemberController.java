@@ -4,14 +4,14 @@ import com.newyear.mainproject.dto.MultiResponseDto;
 import com.newyear.mainproject.dto.SingleResponseDto;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.expense.service.ExpenseRollupService;
 import com.newyear.mainproject.member.dto.MemberDto;
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.member.mapper.MemberMapper;
+import com.newyear.mainproject.member.service.MemberPurgeService;
 import com.newyear.mainproject.member.service.MemberService;
-import com.newyear.mainproject.plan.entity.Plan;
-import com.newyear.mainproject.plan.service.PlanService;
-import com.newyear.mainproject.security.jwt.JwtTokenizer;
-import com.newyear.mainproject.security.logout.RedisUtil;
+import com.newyear.mainproject.security.logout.TokenBlacklist;
+import com.newyear.mainproject.storage.PresignedUpload;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -36,9 +36,9 @@ public class MemberController {
     private final MemberMapper mapper;
     private final MemberService memberService;
     private final PasswordEncoder passwordEncoder;
-    private final JwtTokenizer jwtTokenizer;
-    private final RedisUtil redisUtil;
-    private final PlanService planService;
+    private final TokenBlacklist tokenBlacklist;
+    private final ExpenseRollupService rollupService;
+    private final MemberPurgeService memberPurgeService;
 
     @PostMapping("/signup")
     public ResponseEntity postMember(@Valid @RequestBody MemberDto.Post post){
@@ -67,7 +67,7 @@ public class MemberController {
         Member findMember = memberService.findVerifiedMember(memberId);
         String findMemberPassword = findMember.getPassword();
 
-        if (!findMember.getEmail().equals(memberService.getLoginMember().getEmail())) {
+        if (findMember.getMemberId() != memberService.getLoginMemberId()) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
         }
 
@@ -116,38 +116,54 @@ public class MemberController {
     @GetMapping("/userProfile/{member-id}")
     public ResponseEntity getUserProfile(@PathVariable("member-id") @Positive long memberId){
 
+        //일정, 도시, 게시물 수는 회원 행에 저장된 값 사용
         Member member = memberService.findMember(memberId);
+        MemberDto.userProfile response = mapper.memberToUserProfileDto(member);
 
-        List<Plan>planList =  planService.findPlans(member);
-        long cities =  planList.stream()
-                .map(city -> city.getCityName())
-                .distinct().count();
+        return new ResponseEntity(response, HttpStatus.OK);
+    }
 
-        member = memberService.findMemberProfile(member);
-        MemberDto.userProfile response = mapper.memberToUserProfileDto(member, planList.size(), cities);
+    //회원 지출 통계 (groupBy : category / city / day)
+    @GetMapping("/{member-id}/spending")
+    public ResponseEntity getSpending(@PathVariable("member-id") @Positive long memberId,
+                                      @RequestParam(required = false) String groupBy){
+        if (groupBy == null) groupBy = "category";
+        //본인 지출만 조회 가능
+        if (memberService.getLoginMemberId() != memberId) {
+            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
+        }
 
-        return new ResponseEntity(response, HttpStatus.OK);
+        return new ResponseEntity<>(new SingleResponseDto<>(rollupService.findSpending(memberId, groupBy)), HttpStatus.OK);
     }
 
     @DeleteMapping("/{member-id}")
     public ResponseEntity deleteMember(@PathVariable("member-id") @Positive long memberId,
                                        @RequestHeader("Authorization") @NotBlank String token){
-        memberService.deleteMember(memberId);
+        MemberPurgeService.Progress progress = memberService.deleteMember(memberId);
 
         String accessToken =token.replace("Bearer ", "");
-//        String key = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-        String encodeBase64SecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        System.out.println("access 토큰 남은 유효시간 : " + jwtTokenizer.getExpiration(accessToken, encodeBase64SecretKey));
-
         try{
-            redisUtil.setBlackList(accessToken, "access_token", jwtTokenizer.getBlacklistTime(jwtTokenizer.getExpiration(accessToken, encodeBase64SecretKey)));
+            tokenBlacklist.revoke(accessToken);
         }
         catch (NullPointerException e){
             throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_LOGIN);
         }
 
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        //데이터가 많아 삭제가 이어지는 경우 202 + 진행 상황
+        if (progress.getState() == MemberPurgeService.State.DONE) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(new SingleResponseDto<>(mapper.progressToPurgeResponse(progress)), HttpStatus.ACCEPTED);
+    }
+
+    //탈퇴 데이터 삭제 진행 상황 (관리자)
+    @GetMapping("/purge/{member-id}")
+    public ResponseEntity getPurgeProgress(@PathVariable("member-id") @Positive long memberId){
+        MemberPurgeService.Progress progress = memberPurgeService.getProgress(memberId);
+        if (progress == null) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND);
+        }
+        return new ResponseEntity<>(new SingleResponseDto<>(mapper.progressToPurgeResponse(progress)), HttpStatus.OK);
     }
 
     //회원 프로필 이미지
@@ -157,4 +173,20 @@ public class MemberController {
         Member member = memberService.editProfileImage(multipartFile, memberId);
         return new ResponseEntity(mapper.memberToMemberResponseDto(member), HttpStatus.OK);
     }
+
+    //프로필 이미지 직접 업로드 URL 발급 - 응답의 uploadUrl 로 headers 를 넣어 PUT 후 confirm 호출
+    @PostMapping("/{member-id}/profile/upload-url")
+    public ResponseEntity createProfileUploadUrl(@PathVariable("member-id") @Positive long memberId,
+                                                 @Valid @RequestBody MemberDto.ProfileUploadUrl request) {
+        PresignedUpload upload = memberService.createProfileUploadUrl(memberId, request.getFileName(), request.getContentLength());
+        return new ResponseEntity<>(new SingleResponseDto<>(mapper.presignedUploadToResponseDto(upload)), HttpStatus.CREATED);
+    }
+
+    //직접 업로드 완료
+    @PostMapping("/{member-id}/profile/confirm")
+    public ResponseEntity confirmProfileUpload(@PathVariable("member-id") @Positive long memberId,
+                                               @Valid @RequestBody MemberDto.ProfileUploadConfirm request) {
+        Member member = memberService.confirmProfileImage(memberId, request.getKey());
+        return new ResponseEntity(mapper.memberToMemberResponseDto(member), HttpStatus.OK);
+    }
 }
@@ -6,6 +6,8 @@ import lombok.*;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import java.util.Map;
 
 public class MemberDto {
 
@@ -61,6 +63,36 @@ public class MemberDto {
         private String displayName;
     }
 
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ProfileUploadUrl{
+        @NotBlank
+        private String fileName;
+
+        @Positive
+        private long contentLength;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ProfileUploadConfirm{
+        @NotBlank
+        private String key;
+    }
+
+    @Getter @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ProfileUploadUrlResponse{
+        private String key;
+        private String uploadUrl;
+        //업로드 요청에 그대로 넣어야 하는 헤더
+        private Map<String, String> headers;
+        private String expiresAt;
+    }
+
     @Getter
     @AllArgsConstructor
     @NoArgsConstructor
@@ -71,6 +103,21 @@ public class MemberDto {
         private String refreshToken;
     }
 
+    @Getter @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PurgeResponse{
+        private long memberId;
+        //QUEUED, RUNNING, DONE, FAILED
+        private String state;
+        private long totalPlans;
+        private long deletedPlans;
+        private long totalBoards;
+        private long deletedBoards;
+        private String startedAt;
+        private String finishedAt;
+    }
+
     @Getter @Setter
     @AllArgsConstructor
     @NoArgsConstructor
@@ -82,6 +129,7 @@ public class MemberDto {
         private String profileImage;
         private long cities;
         private long trips;
+        private long boards;
         private String createdAt;
     }
 
@@ -1,15 +1,12 @@
 package com.newyear.mainproject.member.email;
 
+import com.newyear.mainproject.dto.SingleResponseDto;
 import com.newyear.mainproject.security.logout.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
-import javax.mail.MessagingException;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 
@@ -19,9 +16,10 @@ public class EmailController {
 
     private final EmailService emailService;
     private final RedisUtil redisUtils;
-    //인증 번호 발송
+    private final EmailOutbox emailOutbox;
+    //인증 번호 발송 (발송은 비동기)
     @PostMapping("/email/auth")
-    public ResponseEntity mailConfirm(@RequestBody @Valid EmailDto emailDto) throws MessagingException {
+    public ResponseEntity mailConfirm(@RequestBody @Valid EmailDto emailDto) {
         emailService.sendEmail(emailDto.getEmail());
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -36,4 +34,9 @@ public class EmailController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    //메일 발송 대기열 상태 (관리자)
+    @GetMapping("/email/outbox/stats")
+    public ResponseEntity getOutboxStats() {
+        return new ResponseEntity<>(new SingleResponseDto<>(emailOutbox.stats()), HttpStatus.OK);
+    }
 }
@@ -0,0 +1,13 @@
+package com.newyear.mainproject.member.email;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmailMessage {
+    private final String from;
+    private final String to;
+    private final String subject;
+    private final String html;
+}
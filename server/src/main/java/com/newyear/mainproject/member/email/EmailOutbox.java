@@ -0,0 +1,149 @@
+package com.newyear.mainproject.member.email;
+
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 발송 대기열
+ * 요청 스레드는 등록만 하고 바로 반환, 발송은 전용 스레드에서 처리
+ * 일시적인 SMTP 오류는 지수 백오프로 재시도 (initial-backoff * 2^(시도-1), 최대 max-backoff)
+ * 대기 중인 메일은 서버 메모리에만 있어 재시작 시 사라짐 (인증 번호 재발송으로 복구)
+ */
+@Slf4j
+@Component
+public class EmailOutbox {
+
+    private final JavaMailSender javaMailSender;
+    private final ScheduledThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public EmailOutbox(JavaMailSender javaMailSender,
+                       @Value("${mail.outbox.pool-size:2}") int poolSize,
+                       @Value("${mail.outbox.queue-capacity:500}") int queueCapacity,
+                       @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                       @Value("${mail.outbox.initial-backoff-ms:1000}") long initialBackoffMillis,
+                       @Value("${mail.outbox.max-backoff-ms:60000}") long maxBackoffMillis) {
+        this.javaMailSender = javaMailSender;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * 발송 등록 - 대기열이 가득 차면 503
+     */
+    public void enqueue(EmailMessage message) {
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            throw new BusinessLogicException(ExceptionCode.SERVICE_UNAVAILABLE);
+        }
+        executor.execute(() -> send(message, 1));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pending", pending.get());
+        result.put("sent", sentCount.get());
+        result.put("retried", retriedCount.get());
+        result.put("failed", failedCount.get());
+        result.put("rejected", rejectedCount.get());
+        return result;
+    }
+
+    private void send(EmailMessage message, int attempt) {
+        try {
+            javaMailSender.send(toMimeMessage(message));
+            sentCount.incrementAndGet();
+            pending.decrementAndGet();
+        } catch (MailException e) {
+            if (!isRetryable(e) || attempt >= maxAttempts || executor.isShutdown()) {
+                failedCount.incrementAndGet();
+                pending.decrementAndGet();
+                log.warn("mail send failed : to={}, attempt={}, {}", message.getTo(), attempt, e.getMessage());
+                return;
+            }
+            long delay = backoff(attempt);
+            retriedCount.incrementAndGet();
+            log.info("mail send retry : to={}, attempt={}, delay={}ms", message.getTo(), attempt, delay);
+            executor.schedule(() -> send(message, attempt + 1), delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            pending.decrementAndGet();
+            log.error("mail send failed : to={}", message.getTo(), e);
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage message) {
+        try {
+            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "utf-8");
+            helper.setFrom(message.getFrom());
+            helper.setTo(message.getTo());
+            helper.setSubject(message.getSubject());
+            helper.setText(message.getHtml(), true);
+            return mimeMessage;
+        } catch (MessagingException e) {
+            throw new MailPreparationException(e);
+        }
+    }
+
+    //인증 실패, 잘못된 주소는 재시도해도 같은 결과
+    private boolean isRetryable(MailException e) {
+        return !(e instanceof MailAuthenticationException
+                || e instanceof MailParseException
+                || e instanceof MailPreparationException);
+    }
+
+    //동시에 실패한 메일이 같은 시각에 몰리지 않도록 최대 20% 지연 추가
+    private long backoff(int attempt) {
+        long delay = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        //대기 중인 재시도는 버리고 실행 중인 발송만 마무리
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -3,57 +3,44 @@ package com.newyear.mainproject.member.email;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
 import com.newyear.mainproject.security.logout.RedisUtil;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
-import java.util.Random;
+import javax.annotation.PostConstruct;
+import java.security.SecureRandom;
 
 @Service
-@Getter
 @RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender javaMailSender;
+    private static final String FROM = "newyearteam23@gmail.com";
+    private static final String TITLE = "[Tridom] 이메일 인증 번호";
+    //템플릿을 한 번만 렌더링하고 인증 번호 자리만 교체
+    private static final String CODE_PLACEHOLDER = "AUTHCODEPLACEHOLDER";
+
     private final SpringTemplateEngine templateEngine;
     private final RedisUtil redisUtil;
-    private String authNum;
-
-    //랜덤 인증 번호
-    public void createAuthCode() {
-        Random random = new Random();
-        String key = "";
-
-        for (int i = 0; i < 3; i++) {
-            int index = random.nextInt(25) + 65;
-            key += (char) index;
-        }
+    private final EmailOutbox emailOutbox;
+    private final SecureRandom random = new SecureRandom();
+    private String emailTemplate;
 
-        int numIndex = random.nextInt(9999) + 1000;
-        key += numIndex;
-
-        authNum = key;
+    @PostConstruct
+    public void init() {
+        emailTemplate = setContext(CODE_PLACEHOLDER);
     }
 
-    //form
-    public MimeMessage createJoinEmailForm(String email) throws MessagingException {
-
-        createAuthCode();
-        String setFrom = "newyearteam23@gmail.com";
-        String title = "[Tridom] 이메일 인증 번호";
+    //랜덤 인증 번호 (영문 대문자 3자리 + 숫자 4자리)
+    public String createAuthCode() {
+        StringBuilder key = new StringBuilder();
 
-        MimeMessage message = javaMailSender.createMimeMessage();
-        message.addRecipients(MimeMessage.RecipientType.TO, email);
-        message.setSubject(title);
-        message.setFrom(setFrom);
-        message.setText(setContext(authNum), "utf-8", "html");
+        for (int i = 0; i < 3; i++) {
+            key.append((char) (random.nextInt(25) + 65));
+        }
+        key.append(random.nextInt(9000) + 1000);
 
-        return message;
+        return key.toString();
     }
 
     //context
@@ -63,12 +50,13 @@ public class EmailService {
         return templateEngine.process("email", context);
     }
 
-    //send
-    public String sendEmail(String toEmail) throws MessagingException {
-        MimeMessage emailForm = createJoinEmailForm(toEmail);
-        javaMailSender.send(emailForm);
+    //인증 번호 저장 후 발송은 대기열에 등록
+    public void sendEmail(String toEmail) {
+        String authNum = createAuthCode();
         redisUtil.set(toEmail + "_auth", authNum, 3);
-        return authNum;
+
+        String html = emailTemplate.replace(CODE_PLACEHOLDER, authNum);
+        emailOutbox.enqueue(new EmailMessage(FROM, toEmail, TITLE, html));
     }
 
     public void confirmEmail(String authNum, String email) {
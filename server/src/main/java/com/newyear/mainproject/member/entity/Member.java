@@ -39,6 +39,13 @@ public class Member{
     @Column(nullable = false)
     private String profileKey;
 
+    //프로필 이미지 축소본 (48px, 128px) - 변환 전이거나 소셜 프로필 이미지면 null, 변환 후 profileImage 는 512px
+    @Column
+    private String profileImageSmall;
+
+    @Column
+    private String profileImageMedium;
+
     @CreatedDate
     @Column(updatable = false) //update 시, createdAt null 문제로 updatable = false 추가
     private LocalDateTime createdAt;
@@ -46,10 +53,30 @@ public class Member{
     @ElementCollection(fetch = FetchType.EAGER)
     private List<String> roles = new ArrayList<>();
 
+    //프로필 통계 - MemberStatsService 의 update 쿼리로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int planCount;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int cityCount;
+
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "int default 0")
+    private int boardCount;
+
+    //모든 기기 로그아웃 시 증가 (access token ver claim 비교)
+    @Column(nullable = false)
+    private int tokenVersion = 0;
+
+    //마지막으로 토큰 버전을 올린 시각 (access token 유효 시간 안에 올린 회원만 메모리에 보관)
+    private LocalDateTime tokenVersionUpdatedAt;
+
     @Enumerated(value = EnumType.STRING)
     @Column(nullable = false)
     private MemberStatus memberStatus = MemberStatus.MEMBER_ACTIVE;
 
+    //탈퇴 데이터 삭제를 맡은 노드가 마지막으로 갱신한 시각 (MemberPurgeService)
+    private LocalDateTime purgeClaimedAt;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.REMOVE)
     private List<Board> boards = new ArrayList<>();
 
@@ -62,6 +89,16 @@ public class Member{
     @OneToMany(mappedBy = "member", cascade = CascadeType.REMOVE)
     private List<Likes> likes = new ArrayList<>();
 
+    //피드, 댓글용 (축소본이 없으면 원본)
+    public String getSmallProfileImage() {
+        return profileImageSmall != null ? profileImageSmall : profileImage;
+    }
+
+    //게시물 상세용
+    public String getMediumProfileImage() {
+        return profileImageMedium != null ? profileImageMedium : profileImage;
+    }
+
     public enum MemberStatus{
         MEMBER_ACTIVE("활동중"),
         MEMBER_SLEEP("휴면 상태"),
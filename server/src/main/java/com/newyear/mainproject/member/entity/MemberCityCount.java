@@ -0,0 +1,38 @@
+package com.newyear.mainproject.member.entity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * 회원별 도시 일정 수 (0 이 되면 삭제)
+ * 행 수가 Member.cityCount
+ */
+@Getter @Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "member_city_count")
+@IdClass(MemberCityCount.Key.class)
+public class MemberCityCount {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "city_name")
+    private String cityName;
+
+    @Column(nullable = false)
+    private int planCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long memberId;
+        private String cityName;
+    }
+}
@@ -2,6 +2,8 @@ package com.newyear.mainproject.member.mapper;
 
 import com.newyear.mainproject.member.dto.MemberDto;
 import com.newyear.mainproject.member.entity.Member;
+import com.newyear.mainproject.member.service.MemberPurgeService;
+import com.newyear.mainproject.storage.PresignedUpload;
 import org.mapstruct.Mapper;
 
 import java.time.LocalDateTime;
@@ -21,15 +23,16 @@ public interface MemberMapper {
 
 //    MemberDto.Response memberToMemberResponseDto(Member member);
 
-    default MemberDto.userProfile memberToUserProfileDto(Member member, long trips, long cities){
+    default MemberDto.userProfile memberToUserProfileDto(Member member){
         MemberDto.userProfile response = new MemberDto.userProfile();
         response.setMemberId(member.getMemberId());
         response.setEmail(member.getEmail());
         response.setDisplayName(member.getDisplayName());
         //이미지 추가
         response.setProfileImage(member.getProfileImage());
-        response.setTrips(trips);
-        response.setCities(cities);
+        response.setTrips(member.getPlanCount());
+        response.setCities(member.getCityCount());
+        response.setBoards(member.getBoardCount());
 
         LocalDateTime dateTime = member.getCreatedAt();
         String day = String.valueOf(dateTime.getDayOfMonth());
@@ -79,4 +82,17 @@ public interface MemberMapper {
 
         return response;
     }
+
+    default MemberDto.ProfileUploadUrlResponse presignedUploadToResponseDto(PresignedUpload upload){
+        return new MemberDto.ProfileUploadUrlResponse(upload.getKey(), upload.getUrl(), upload.getHeaders(),
+                upload.getExpiresAt().toString());
+    }
+
+    default MemberDto.PurgeResponse progressToPurgeResponse(MemberPurgeService.Progress progress){
+        return new MemberDto.PurgeResponse(progress.getMemberId(), progress.getState().name(),
+                progress.getTotalPlans(), progress.getDeletedPlans().get(),
+                progress.getTotalBoards(), progress.getDeletedBoards().get(),
+                progress.getStartedAt().toString(),
+                progress.getFinishedAt() == null ? null : progress.getFinishedAt().toString());
+    }
 }
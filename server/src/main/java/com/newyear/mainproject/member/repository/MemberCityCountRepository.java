@@ -0,0 +1,37 @@
+package com.newyear.mainproject.member.repository;
+
+import com.newyear.mainproject.member.entity.MemberCityCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberCityCountRepository extends JpaRepository<MemberCityCount, MemberCityCount.Key> {
+
+    @Modifying
+    @Query(value = "insert into member_city_count (member_id, city_name, plan_count) values (:memberId, :cityName, 1) " +
+            "on duplicate key update plan_count = plan_count + 1", nativeQuery = true)
+    int increase(@Param("memberId") long memberId, @Param("cityName") String cityName);
+
+    @Modifying
+    @Query("update MemberCityCount c set c.planCount = c.planCount - 1 where c.memberId = :memberId and c.cityName = :cityName")
+    int decrease(@Param("memberId") long memberId, @Param("cityName") String cityName);
+
+    @Modifying
+    @Query("delete from MemberCityCount c where c.memberId = :memberId and c.planCount <= 0")
+    int deleteEmpty(@Param("memberId") long memberId);
+
+    @Modifying
+    @Query("delete from MemberCityCount c where c.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") long memberId);
+
+    //전체 재집계
+    @Modifying
+    @Query(value = "delete from member_city_count", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "insert into member_city_count (member_id, city_name, plan_count) " +
+            "select p.member_id, p.city_name, count(*) from plan p group by p.member_id, p.city_name", nativeQuery = true)
+    int rebuildFromPlans();
+}
@@ -2,9 +2,86 @@ package com.newyear.mainproject.member.repository;
 
 import com.newyear.mainproject.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
-    Optional<Member> findByEmail(String email);
+    //roles(EAGER) 도 한 번에 조회 - 따로 두면 회원 조회마다 SQL 2번
+    @Query("select distinct m from Member m left join fetch m.roles where m.email = :email")
+    Optional<Member> findByEmail(@Param("email") String email);
+
+    //탈퇴 시작 - 이미 탈퇴 중이면 0
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.memberStatus = :quit, m.purgeClaimedAt = :now " +
+            "where m.memberId = :memberId and m.memberStatus <> :quit")
+    int startPurge(@Param("memberId") long memberId, @Param("quit") Member.MemberStatus quit,
+                   @Param("now") LocalDateTime now);
+
+    //삭제를 맡은 노드가 claimedAt 을 갱신하지 않은 채 staleBefore 가 지난 탈퇴 회원 (이전 방식으로 숨기기만 한 회원은 null 이라 제외)
+    @Query("select m.memberId as memberId, m.purgeClaimedAt as purgeClaimedAt from Member m " +
+            "where m.memberStatus = :quit and m.purgeClaimedAt < :staleBefore")
+    List<PurgeClaimView> findStalePurges(@Param("quit") Member.MemberStatus quit,
+                                         @Param("staleBefore") LocalDateTime staleBefore);
+
+    //읽은 claimedAt 그대로일 때만 갱신 - 다른 노드가 먼저 가져갔으면 0
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.purgeClaimedAt = :now where m.memberId = :memberId and m.purgeClaimedAt = :claimedAt")
+    int renewPurgeClaim(@Param("memberId") long memberId, @Param("claimedAt") LocalDateTime claimedAt,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.tokenVersion = m.tokenVersion + 1, m.tokenVersionUpdatedAt = :now where m.email = :email")
+    int increaseTokenVersion(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    //변환 중 새 이미지가 올라왔으면 (profileKey 변경) 반영하지 않음
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.profileImage = :large, m.profileImageMedium = :medium, m.profileImageSmall = :small " +
+            "where m.memberId = :memberId and m.profileKey = :profileKey")
+    int updateProfileVariants(@Param("memberId") long memberId, @Param("profileKey") String profileKey,
+                              @Param("small") String small, @Param("medium") String medium, @Param("large") String large);
+
+    //일정 수 증감 + 도시 수는 member_city_count 행 수로 다시 계산
+    @Modifying
+    @Query("update Member m set m.planCount = m.planCount + :delta, " +
+            "m.cityCount = (select count(c) from MemberCityCount c where c.memberId = :memberId) " +
+            "where m.memberId = :memberId")
+    int updatePlanCount(@Param("memberId") long memberId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Member m set m.boardCount = m.boardCount + :delta where m.memberId = :memberId")
+    int updateBoardCount(@Param("memberId") long memberId, @Param("delta") int delta);
+
+    //전체 재집계 (member_city_count 재집계 후 실행)
+    @Modifying
+    @Query(value = "update member m set " +
+            "m.plan_count = (select count(*) from plan p where p.member_id = m.member_id), " +
+            "m.board_count = (select count(*) from board b where b.member_id = m.member_id), " +
+            "m.city_count = (select count(*) from member_city_count c where c.member_id = m.member_id)", nativeQuery = true)
+    int reconcileCounts();
+
+    @Query("select m.tokenVersion from Member m where m.email = :email")
+    int findTokenVersionByEmail(@Param("email") String email);
+
+    //since 이후에 버전을 올린 회원만 (그 전 버전의 토큰은 이미 만료)
+    @Query("select m.email as email, m.tokenVersion as tokenVersion, m.tokenVersionUpdatedAt as tokenVersionUpdatedAt " +
+            "from Member m where m.tokenVersionUpdatedAt > :since")
+    List<TokenVersionView> findTokenVersions(@Param("since") LocalDateTime since);
+
+    interface PurgeClaimView {
+        Long getMemberId();
+        LocalDateTime getPurgeClaimedAt();
+    }
+
+    interface TokenVersionView {
+        String getEmail();
+        int getTokenVersion();
+        LocalDateTime getTokenVersionUpdatedAt();
+    }
 }
@@ -0,0 +1,17 @@
+package com.newyear.mainproject.member.service;
+
+import com.newyear.mainproject.member.entity.Member;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 요청 당 로그인 회원 한 번만 조회
+ */
+@Getter @Setter
+@Component
+@RequestScope
+public class LoginMemberHolder {
+    private Member member;
+}
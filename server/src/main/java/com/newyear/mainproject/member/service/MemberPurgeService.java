@@ -0,0 +1,248 @@
+package com.newyear.mainproject.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.newyear.mainproject.board.likes.LikesRepository;
+import com.newyear.mainproject.board.repository.BoardRepository;
+import com.newyear.mainproject.board.service.BoardBulkDeleter;
+import com.newyear.mainproject.city.service.CityPopularityService;
+import com.newyear.mainproject.comment.repository.CommentRepository;
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.expense.service.ExpenseRollupService;
+import com.newyear.mainproject.member.entity.Member;
+import com.newyear.mainproject.member.repository.MemberRepository;
+import com.newyear.mainproject.plan.repository.PlanRepository;
+import com.newyear.mainproject.plan.service.PlanBulkDeleter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 회원 탈퇴 데이터 삭제
+ * 탈퇴 요청 시 회원 상태를 MEMBER_QUIT 로 바꿔 바로 숨기고, 게시물 -> 좋아요/댓글 -> 일정 -> 회원 순으로
+ * chunk-size 개씩 별도 트랜잭션에서 일괄 삭제 (한 번에 오래 row lock 을 잡지 않음)
+ * 일정 + 게시물 수가 async-threshold 이하면 요청 안에서, 넘으면 purge 스레드에서 처리
+ * 삭제를 맡은 노드는 chunk 마다 purgeClaimedAt 을 조건부로 갱신 (claim) - 다른 노드가 가져갔으면 중단
+ * claim-timeout 동안 갱신되지 않은 탈퇴 회원은 (노드 재시작, 실패) 한 노드만 claim 해서 이어서 삭제
+ */
+@Slf4j
+@Service
+public class MemberPurgeService {
+
+    private final MemberRepository memberRepository;
+    private final BoardRepository boardRepository;
+    private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+    private final PlanRepository planRepository;
+    private final BoardBulkDeleter boardBulkDeleter;
+    private final PlanBulkDeleter planBulkDeleter;
+    private final CityPopularityService popularityService;
+    private final ExpenseRollupService rollupService;
+    private final MemberStatsService memberStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final Pageable chunk;
+    private final int asyncThreshold;
+    private final Duration claimTimeout;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "member-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+    //진행 상황 (하루 보관)
+    private final Cache<Long, Progress> progresses = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    public MemberPurgeService(MemberRepository memberRepository, BoardRepository boardRepository,
+                              LikesRepository likesRepository, CommentRepository commentRepository,
+                              PlanRepository planRepository, BoardBulkDeleter boardBulkDeleter,
+                              PlanBulkDeleter planBulkDeleter, CityPopularityService popularityService,
+                              ExpenseRollupService rollupService, MemberStatsService memberStatsService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${member.purge.chunk-size:100}") int chunkSize,
+                              @Value("${member.purge.async-threshold:200}") int asyncThreshold,
+                              @Value("${member.purge.claim-timeout-minutes:10}") long claimTimeoutMinutes) {
+        this.memberRepository = memberRepository;
+        this.boardRepository = boardRepository;
+        this.likesRepository = likesRepository;
+        this.commentRepository = commentRepository;
+        this.planRepository = planRepository;
+        this.boardBulkDeleter = boardBulkDeleter;
+        this.planBulkDeleter = planBulkDeleter;
+        this.popularityService = popularityService;
+        this.rollupService = rollupService;
+        this.memberStatsService = memberStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunk = PageRequest.of(0, chunkSize);
+        this.asyncThreshold = asyncThreshold;
+        this.claimTimeout = Duration.ofMinutes(claimTimeoutMinutes);
+    }
+
+    /**
+     * 탈퇴 처리 - 숨김 후 삭제 (데이터가 많으면 비동기)
+     * @return 진행 상황 (동기 처리 시 DONE)
+     */
+    public Progress purge(Member member) {
+        long memberId = member.getMemberId();
+        LocalDateTime claimedAt = now();
+        Integer started = transactionTemplate.execute(status ->
+                memberRepository.startPurge(memberId, Member.MemberStatus.MEMBER_QUIT, claimedAt));
+        if (started == null || started == 0) {
+            //이미 탈퇴 처리 중
+            throw new BusinessLogicException(ExceptionCode.INVALID_MEMBER_STATUS);
+        }
+        member.setMemberStatus(Member.MemberStatus.MEMBER_QUIT);
+
+        Progress progress = new Progress(memberId, member.getPlanCount(), member.getBoardCount(), claimedAt);
+        progresses.put(memberId, progress);
+
+        if (member.getPlanCount() + member.getBoardCount() <= asyncThreshold) {
+            run(progress);
+        } else {
+            executor.execute(() -> run(progress));
+        }
+        return progress;
+    }
+
+    public Progress getProgress(long memberId) {
+        return progresses.getIfPresent(memberId);
+    }
+
+    //claim 이 끊긴 삭제 (노드 재시작, 실패) 이어서 처리 - claim 에 성공한 노드만 실행
+    @Scheduled(fixedDelayString = "${member.purge.resume-interval:60000}")
+    public void resume() {
+        LocalDateTime staleBefore = now().minus(claimTimeout);
+        for (MemberRepository.PurgeClaimView stale :
+                memberRepository.findStalePurges(Member.MemberStatus.MEMBER_QUIT, staleBefore)) {
+            long memberId = stale.getMemberId();
+            LocalDateTime claimedAt = now();
+            Integer claimed = transactionTemplate.execute(status ->
+                    memberRepository.renewPurgeClaim(memberId, stale.getPurgeClaimedAt(), claimedAt));
+            if (claimed == null || claimed == 0) continue;
+
+            Member member = memberRepository.findById(memberId).orElse(null);
+            if (member == null) continue;
+            Progress progress = new Progress(memberId, member.getPlanCount(), member.getBoardCount(), claimedAt);
+            progresses.put(memberId, progress);
+            executor.execute(() -> run(progress));
+        }
+    }
+
+    private void run(Progress progress) {
+        long memberId = progress.getMemberId();
+        progress.state = State.RUNNING;
+        try {
+            //게시물 (다른 회원의 좋아요, 댓글 포함)
+            deleteInChunks(progress, () -> boardRepository.findIdsByMemberId(memberId, chunk), ids -> {
+                popularityService.boardsDeleted(ids);
+                boardBulkDeleter.deleteBoards(ids);
+                progress.deletedBoards.addAndGet(ids.size());
+            });
+            //다른 게시물에 남긴 좋아요, 댓글
+            deleteInChunks(progress, () -> likesRepository.findIdsByMemberId(memberId, chunk), likesRepository::deleteByIds);
+            deleteInChunks(progress, () -> commentRepository.findIdsByMemberId(memberId, chunk), commentRepository::deleteByIds);
+            //일정
+            deleteInChunks(progress, () -> planRepository.findIdsByMemberId(memberId, chunk), ids -> {
+                popularityService.plansDeleted(ids);
+                planBulkDeleter.deletePlans(ids);
+                progress.deletedPlans.addAndGet(ids.size());
+            });
+            //회원 (하위 데이터가 없어 cascade 대상도 비어 있음)
+            transactionTemplate.executeWithoutResult(status -> {
+                renewClaim(progress);
+                rollupService.deleteMemberRollup(memberId);
+                memberStatsService.memberDeleted(memberId);
+                memberRepository.deleteById(memberId);
+            });
+            progress.state = State.DONE;
+        } catch (ClaimLostException e) {
+            progress.state = State.FAILED;
+            log.warn("member purge taken over by another node : memberId={}", memberId);
+        } catch (RuntimeException e) {
+            progress.state = State.FAILED;
+            log.error("member purge failed : memberId={}", memberId, e);
+        } finally {
+            progress.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    //id 를 chunk 만큼 읽어 삭제, 더 없을 때까지 반복 (chunk 마다 커밋)
+    private void deleteInChunks(Progress progress, Supplier<List<Long>> nextIds, Consumer<List<Long>> delete) {
+        while (true) {
+            Boolean deleted = transactionTemplate.execute(status -> {
+                renewClaim(progress);
+                List<Long> ids = nextIds.get();
+                if (ids.isEmpty()) return false;
+                delete.accept(ids);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(deleted)) return;
+        }
+    }
+
+    //chunk 트랜잭션 안에서 claim 갱신 - 회원 row lock 을 커밋까지 잡아 다른 노드와 동시에 삭제하지 않음
+    private void renewClaim(Progress progress) {
+        LocalDateTime now = now();
+        if (memberRepository.renewPurgeClaim(progress.memberId, progress.claimedAt, now) == 0) {
+            throw new ClaimLostException();
+        }
+        progress.claimedAt = now;
+    }
+
+    //datetime(6) 에 저장되는 값 그대로 비교하도록 마이크로초까지만
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        //진행 중인 chunk 까지만 처리, 나머지는 claim-timeout 후 resume
+        executor.shutdownNow();
+    }
+
+    public enum State { QUEUED, RUNNING, DONE, FAILED }
+
+    @Getter
+    public static class Progress {
+        private final long memberId;
+        private final long totalPlans;
+        private final long totalBoards;
+        private final AtomicLong deletedPlans = new AtomicLong();
+        private final AtomicLong deletedBoards = new AtomicLong();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile State state = State.QUEUED;
+        private volatile LocalDateTime finishedAt;
+        @Getter(AccessLevel.NONE)
+        private volatile LocalDateTime claimedAt;
+
+        Progress(long memberId, long totalPlans, long totalBoards, LocalDateTime claimedAt) {
+            this.memberId = memberId;
+            this.totalPlans = totalPlans;
+            this.totalBoards = totalBoards;
+            this.claimedAt = claimedAt;
+        }
+    }
+
+    private static class ClaimLostException extends RuntimeException {
+    }
+}
@@ -6,7 +6,9 @@ import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.member.repository.MemberRepository;
 import com.newyear.mainproject.plan.service.PlanService;
 import com.newyear.mainproject.security.logout.RedisUtil;
+import com.newyear.mainproject.security.userdetails.MemberPrincipal;
 import com.newyear.mainproject.security.utils.CustomAuthorityUtils;
+import com.newyear.mainproject.storage.PresignedUpload;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
@@ -27,22 +29,30 @@ import java.util.Optional;
 @Slf4j
 public class MemberService {
 
+    //직접 업로드 URL 발급 후 확인 요청까지 허용 시간
+    private static final int PROFILE_UPLOAD_MINUTES = 10;
+
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final CustomAuthorityUtils authorityUtils;
-    private final S3Service s3Service;
+    private final ProfileImageService profileImageService;
     private final RedisUtil redisUtil;
     private final PlanService planService;
+    private final LoginMemberHolder loginMemberHolder;
+    private final MemberPurgeService memberPurgeService;
 
     public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, CustomAuthorityUtils authorityUtils
-                         , S3Service s3Service, RedisUtil redisUtil,
-                         @Lazy PlanService planService) {
+                         , ProfileImageService profileImageService, RedisUtil redisUtil,
+                         @Lazy PlanService planService, LoginMemberHolder loginMemberHolder,
+                         MemberPurgeService memberPurgeService) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityUtils = authorityUtils;
-        this.s3Service = s3Service;
+        this.profileImageService = profileImageService;
         this.redisUtil = redisUtil;
         this.planService = planService;
+        this.loginMemberHolder = loginMemberHolder;
+        this.memberPurgeService = memberPurgeService;
     }
 
     public Member createMember(Member member) {
@@ -113,20 +123,16 @@ public class MemberService {
         return findVerifiedMember(memberId);
     }
 
-    public Member findMemberProfile(Member member){
-        Member findMember = findVerifiedMember(member.getMemberId());
-        return findMember;
-    }
-
 
     public Page<Member> findMembers(int page, int size) {
         return memberRepository.findAll(PageRequest.of(page, size,
                 Sort.by("memberId").descending()));
     }
 
-    public void deleteMember(long memberId) {
+    //탈퇴 - 바로 숨기고 데이터는 MemberPurgeService 에서 일괄 삭제
+    public MemberPurgeService.Progress deleteMember(long memberId) {
         Member member = findVerifiedMember(memberId);
-        if(!member.getEmail().equals(getLoginMember().getEmail())){
+        if(member.getMemberId() != getLoginMemberId()){
             throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_LOGIN);
         }
 
@@ -138,7 +144,7 @@ public class MemberService {
             redisUtil.delete(member.getEmail());
         }
 
-        memberRepository.delete(member);
+        return memberPurgeService.purge(member);
     }
 
     private void verifyExistsEmail(String email) {
@@ -166,29 +172,102 @@ public class MemberService {
         return authentication.getName();
     }
 
-    // 로그인 유저 얻기
+    private MemberPrincipal findLoginPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal) {
+            return (MemberPrincipal) authentication.getPrincipal();
+        }
+        return null;
+    }
+
+    // 로그인 유저 얻기 (요청 당 한 번만 조회)
     public Member getLoginMember() {
-        Optional<Member> optionalMember = memberRepository.findByEmail(findLoginMemberEmail());
-        Member member = optionalMember.orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+        Member member = loginMemberHolder.getMember();
+        if (member != null) return member;
+
+        MemberPrincipal principal = findLoginPrincipal();
+        Optional<Member> optionalMember = principal != null && principal.getMemberId() != null
+                ? memberRepository.findById(principal.getMemberId())
+                : memberRepository.findByEmail(findLoginMemberEmail());
+        member = optionalMember.orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+        loginMemberHolder.setMember(member);
         return member;
     }
 
+    // 로그인 유저 id (토큰에 memberId 가 있으면 조회 없음)
+    public long getLoginMemberId() {
+        MemberPrincipal principal = findLoginPrincipal();
+        if (principal != null && principal.getMemberId() != null) {
+            return principal.getMemberId();
+        }
+        return getLoginMember().getMemberId();
+    }
+
     // 회원 프로필 이미지 업로드
     public Member editProfileImage(MultipartFile multipartFile, long memberId) throws IOException {
         Member member = findMember(memberId);
         //이미지 없을 경우 예외 처리
         if(multipartFile.isEmpty()) throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
         //자신의 프로필 이미지만 수정 가능
-        if (member.getMemberId() != getLoginMember().getMemberId()) {
+        if (member.getMemberId() != getLoginMemberId()) {
             throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
         }
         //기본 이미지일 경우 삭제 X
         boolean isBasicImage = member.getProfileKey().equals("basic.png");
 
-        Map<String, String> profile = s3Service.uploadFile(member.getProfileKey(), multipartFile, isBasicImage);
+        //최대 2MB - 한 번 읽어서 원본 저장과 축소본 변환에 같이 사용
+        byte[] bytes = multipartFile.getBytes();
+        Map<String, String> profile = profileImageService.uploadFile(member.getProfileKey(), multipartFile.getOriginalFilename(), bytes, isBasicImage);
         member.setProfileImage(profile.get("url"));
         member.setProfileKey(profile.get("key"));
+        //축소본은 변환이 끝나면 반영
+        member.setProfileImageSmall(null);
+        member.setProfileImageMedium(null);
+
+        Member savedMember = memberRepository.save(member);
+        profileImageService.createVariants(savedMember.getMemberId(), savedMember.getProfileKey(), bytes);
+        return savedMember;
+    }
 
-        return memberRepository.save(member);
+    //프로필 이미지 직접 업로드 URL 발급 (발급한 key 만 확인 요청에서 허용)
+    public PresignedUpload createProfileUploadUrl(long memberId, String fileName, long contentLength) {
+        verifyProfileOwner(memberId);
+        PresignedUpload upload = profileImageService.createUploadUrl(fileName, contentLength);
+        redisUtil.set(memberId + "_profile_upload", upload.getKey(), PROFILE_UPLOAD_MINUTES);
+        return upload;
+    }
+
+    //직접 업로드 완료 확인 후 프로필 이미지 반영
+    public Member confirmProfileImage(long memberId, String key) {
+        Member member = verifyProfileOwner(memberId);
+        if (!key.equals(redisUtil.get(memberId + "_profile_upload"))) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
+        }
+
+        byte[] bytes = profileImageService.readUploaded(key);
+        redisUtil.delete(memberId + "_profile_upload");
+
+        //공개 위치로 옮긴 뒤 기존 파일 삭제 (기본 이미지일 경우 삭제 X)
+        String url = profileImageService.publishUploaded(key);
+        boolean isBasicImage = member.getProfileKey().equals("basic.png");
+        profileImageService.deleteReplaced(member.getProfileKey(), key, isBasicImage);
+
+        member.setProfileImage(url);
+        member.setProfileKey(key);
+        member.setProfileImageSmall(null);
+        member.setProfileImageMedium(null);
+
+        Member savedMember = memberRepository.save(member);
+        profileImageService.createVariants(savedMember.getMemberId(), key, bytes);
+        return savedMember;
+    }
+
+    //자신의 프로필 이미지만 수정 가능
+    private Member verifyProfileOwner(long memberId) {
+        Member member = findMember(memberId);
+        if (member.getMemberId() != getLoginMemberId()) {
+            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
+        }
+        return member;
     }
 }
@@ -0,0 +1,60 @@
+package com.newyear.mainproject.member.service;
+
+import com.newyear.mainproject.board.entity.Board;
+import com.newyear.mainproject.member.repository.MemberCityCountRepository;
+import com.newyear.mainproject.member.repository.MemberRepository;
+import com.newyear.mainproject.plan.entity.Plan;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 회원 프로필 통계 (일정 수, 도시 수, 게시물 수)
+ * 일정/게시물 저장과 같은 트랜잭션에서 갱신하고, 어긋난 값은 주기적으로 재집계
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MemberStatsService {
+
+    private final MemberRepository memberRepository;
+    private final MemberCityCountRepository cityCountRepository;
+
+    public void planCreated(Plan plan) {
+        long memberId = plan.getMember().getMemberId();
+        cityCountRepository.increase(memberId, plan.getCityName());
+        memberRepository.updatePlanCount(memberId, 1);
+    }
+
+    public void planDeleted(Plan plan) {
+        long memberId = plan.getMember().getMemberId();
+        cityCountRepository.decrease(memberId, plan.getCityName());
+        cityCountRepository.deleteEmpty(memberId);
+        memberRepository.updatePlanCount(memberId, -1);
+    }
+
+    public void boardCreated(Board board) {
+        memberRepository.updateBoardCount(board.getMember().getMemberId(), 1);
+    }
+
+    public void boardDeleted(Board board) {
+        memberRepository.updateBoardCount(board.getMember().getMemberId(), -1);
+    }
+
+    public void memberDeleted(long memberId) {
+        cityCountRepository.deleteByMemberId(memberId);
+    }
+
+    //전체 재집계 (기본 매일 04:30)
+    @Scheduled(cron = "${member.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        cityCountRepository.deleteAllRows();
+        cityCountRepository.rebuildFromPlans();
+        int members = memberRepository.reconcileCounts();
+        log.info("member stats reconciled : {} members, {}ms", members, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,286 @@
+package com.newyear.mainproject.member.service;
+
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.member.repository.MemberRepository;
+import com.newyear.mainproject.storage.BlobCleaner;
+import com.newyear.mainproject.storage.BlobStore;
+import com.newyear.mainproject.storage.PresignedUpload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 프로필 이미지 저장
+ * 원본 저장 후 축소본(48, 128, 512px)은 전용 스레드 풀에서 만들고 회원 정보에 반영
+ * 대기열이 가득 차면 축소본 없이 원본만 사용
+ */
+@Slf4j
+@Service
+public class ProfileImageService {
+
+    private static final int SMALL = 48;
+    private static final int MEDIUM = 128;
+    private static final int LARGE = 512;
+    private static final int[] VARIANT_SIZES = {SMALL, MEDIUM, LARGE};
+    private static final int MAX_FILE_SIZE = 2 * 1024 * 1024;
+
+    private final BlobStore blobStore;
+    private final BlobCleaner blobCleaner;
+    private final MemberRepository memberRepository;
+    private final ThreadPoolExecutor executor;
+    private final Duration uploadUrlTtl;
+    private final long maxPixels;
+
+    public ProfileImageService(BlobStore blobStore, BlobCleaner blobCleaner, MemberRepository memberRepository,
+                               @Value("${profile.image.pool-size:2}") int poolSize,
+                               @Value("${profile.image.queue-capacity:20}") int queueCapacity,
+                               @Value("${profile.image.upload-url-ttl-seconds:300}") long uploadUrlTtlSeconds,
+                               @Value("${profile.image.max-pixels:16777216}") long maxPixels) {
+        this.blobStore = blobStore;
+        this.uploadUrlTtl = Duration.ofSeconds(uploadUrlTtlSeconds);
+        this.maxPixels = maxPixels;
+        this.blobCleaner = blobCleaner;
+        this.memberRepository = memberRepository;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "profile-image-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    //파일 저장
+    public Map<String, String> uploadFile(String currentFilePath, String fileName, byte[] bytes, boolean isBasicImage) {
+
+        String contentType = contentType(fileName);
+        String file = newKey(fileName);
+
+        String url = blobStore.put(file, new ByteArrayInputStream(bytes), bytes.length, contentType);
+
+        //새 파일 저장 후 기존 파일, 축소본 삭제 (기본 이미지는 삭제 X)
+        deleteReplaced(currentFilePath, file, isBasicImage);
+
+        Map <String, String> map = new HashMap<>();
+        map.put("key", file);
+        map.put("url", url);
+
+        return map;
+    }
+
+    /**
+     * 저장소 직접 업로드 URL 발급 (이미지 바이트는 API 서버를 거치지 않음)
+     */
+    public PresignedUpload createUploadUrl(String fileName, long contentLength) {
+        if (contentLength <= 0 || contentLength > MAX_FILE_SIZE) {
+            throw new BusinessLogicException(ExceptionCode.MAX_FILE_SIZE_2MB);
+        }
+        String contentType = contentType(fileName);
+        return blobStore.createUploadUrl(newKey(fileName), contentType, contentLength, uploadUrlTtl);
+    }
+
+    /**
+     * 직접 업로드된 파일 확인 (아직 비공개 임시 위치) - 2MB 초과면 삭제 후 예외
+     * @return 축소본 변환에 쓸 원본 바이트
+     */
+    public byte[] readUploaded(String key) {
+        byte[] bytes;
+        try (InputStream inputStream = blobStore.openUpload(key)) {
+            bytes = inputStream.readNBytes(MAX_FILE_SIZE + 1);
+        } catch (IOException e) {
+            throw new BusinessLogicException(ExceptionCode.FILE_NOT_FOUND);
+        }
+        if (bytes.length > MAX_FILE_SIZE) {
+            blobCleaner.deleteUploadLater(key);
+            throw new BusinessLogicException(ExceptionCode.MAX_FILE_SIZE_2MB);
+        }
+        return bytes;
+    }
+
+    //확인한 직접 업로드 파일 공개
+    public String publishUploaded(String key) {
+        return blobStore.publishUpload(key);
+    }
+
+    public void deleteReplaced(String currentFilePath, String newFilePath, boolean isBasicImage) {
+        if (currentFilePath == null || "".equals(currentFilePath) || isBasicImage || currentFilePath.equals(newFilePath)) {
+            return;
+        }
+        blobCleaner.deleteLater(currentFilePath);
+        for (int size : VARIANT_SIZES) {
+            blobCleaner.deleteLater(variantKey(currentFilePath, size));
+        }
+    }
+
+    //파일 형식 구하기 - content type 지정 (미지정시 자동 다운됨)
+    private String contentType(String fileName) {
+        if (fileName == null || !fileName.contains(".")) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
+        }
+        String ext = fileName.split("\\.")[1];
+
+        if (ext.equals("jpeg") || ext.equals("jpg")) {
+            return "image/jpeg";
+        } else if (ext.equals("png")) {
+            return "image/png";
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
+    }
+
+    // key 값을 고유값으로 하기 위한 시간 설정
+    private String newKey(String fileName) {
+        SimpleDateFormat date = new SimpleDateFormat("yyyyMMddHHmmss");
+        return fileName + "-" + date.format(new Date());
+    }
+
+    /**
+     * 축소본 생성 등록 - 회원 정보 저장 후 호출
+     */
+    public void createVariants(long memberId, String key, byte[] bytes) {
+        try {
+            executor.execute(() -> processVariants(memberId, key, bytes));
+        } catch (RejectedExecutionException e) {
+            log.warn("profile image variants skipped (queue full) : memberId={}", memberId);
+        }
+    }
+
+    private void processVariants(long memberId, String key, byte[] bytes) {
+        try {
+            BufferedImage original = decode(key, bytes);
+            if (original == null) {
+                return;
+            }
+            //투명 배경이 있으면 png, 아니면 jpeg
+            boolean alpha = original.getColorModel().hasAlpha();
+
+            Map<Integer, String> urls = new HashMap<>();
+            for (int size : VARIANT_SIZES) {
+                byte[] encoded = encode(resize(original, size, alpha), alpha);
+                String variantKey = variantKey(key, size);
+                urls.put(size, blobStore.put(variantKey, new ByteArrayInputStream(encoded), encoded.length,
+                        alpha ? "image/png" : "image/jpeg"));
+            }
+
+            int updated = memberRepository.updateProfileVariants(memberId, key, urls.get(SMALL), urls.get(MEDIUM), urls.get(LARGE));
+            //변환 중 다른 이미지로 바뀐 경우 만든 축소본 삭제
+            if (updated == 0) {
+                for (int size : VARIANT_SIZES) {
+                    blobCleaner.deleteLater(variantKey(key, size));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("profile image variants failed : {}, {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 헤더의 가로, 세로만 먼저 읽고 max-pixels 이하일 때만 디코딩
+     * 2MB 안에서도 수만 px 이미지는 디코딩 시 수 GB 메모리를 쓰므로 (압축 폭탄)
+     */
+    private BufferedImage decode(String key, byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.warn("profile image decode failed : {}", key);
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("profile image too large : {}, {}x{}", key, reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    //긴 변 기준으로 축소 (확대 X), 절반씩 줄여 품질 유지
+    private BufferedImage resize(BufferedImage image, int size, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        double scale = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private byte[] encode(BufferedImage image, boolean alpha) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.85f);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private String variantKey(String key, int size) {
+        return key + "-" + size;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
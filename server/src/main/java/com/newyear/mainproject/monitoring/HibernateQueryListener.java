@@ -0,0 +1,54 @@
+package com.newyear.mainproject.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * 요청별 엔티티 로딩, 컬렉션 지연 로딩 수 기록 (RequestQueryStats)
+ * SQL 수는 QueryCountListener
+ */
+@Component
+@RequiredArgsConstructor
+public class HibernateQueryListener implements PostLoadEventListener, InitializeCollectionEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, this);
+        registry.appendListeners(EventType.INIT_COLLECTION, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestQueryStats.entityLoaded(unqualify(event.getPersister().getEntityName()));
+    }
+
+    //기본 리스너가 컬렉션을 불러온 뒤 호출 (이미 초기화된 컬렉션은 이벤트 없음)
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        String owner = event.getAffectedOwnerEntityName();
+        String role = event.getCollection().getRole();
+        //com.newyear...Board.likes -> Board.likes
+        RequestQueryStats.collectionFetched(owner != null && role.startsWith(owner + ".")
+                ? unqualify(owner) + role.substring(owner.length())
+                : role);
+    }
+
+    private static String unqualify(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
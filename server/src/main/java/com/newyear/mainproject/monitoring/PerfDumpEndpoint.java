@@ -0,0 +1,107 @@
+package com.newyear.mainproject.monitoring;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Tag;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CollectionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.*;
+
+/**
+ * 관리 포트 /actuator/perfdump - 전체 지표와 hibernate 통계를 JSON 한 번으로 조회 (커밋 전후 비교용)
+ * meters : 지표 이름 -> 태그별 측정값
+ * hibernate : 전체 통계, 엔티티별 로딩 수, 컬렉션별 지연 로딩 수, 최대 실행 시간 순 쿼리
+ */
+@Component
+@Endpoint(id = "perfdump")
+@RequiredArgsConstructor
+public class PerfDumpEndpoint {
+    private static final int SLOW_QUERY_LIMIT = 20;
+
+    private final MeterRegistry meterRegistry;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> dump() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("meters", meters());
+        result.put("hibernate", hibernate());
+        return result;
+    }
+
+    private Map<String, List<Map<String, Object>>> meters() {
+        Map<String, List<Map<String, Object>>> meters = new TreeMap<>();
+        for (Meter meter : meterRegistry.getMeters()) {
+            Map<String, String> tags = new TreeMap<>();
+            for (Tag tag : meter.getId().getTags()) {
+                tags.put(tag.getKey(), tag.getValue());
+            }
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (Measurement measurement : meter.measure()) {
+                values.put(measurement.getStatistic().getTagValueRepresentation(), measurement.getValue());
+            }
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("tags", tags);
+            row.put("values", values);
+            meters.computeIfAbsent(meter.getId().getName(), k -> new ArrayList<>()).add(row);
+        }
+        return meters;
+    }
+
+    private Map<String, Object> hibernate() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        summary.put("statements", statistics.getPrepareStatementCount());
+        summary.put("queries", statistics.getQueryExecutionCount());
+        summary.put("entityLoads", statistics.getEntityLoadCount());
+        summary.put("entityFetches", statistics.getEntityFetchCount());
+        summary.put("collectionLoads", statistics.getCollectionLoadCount());
+        summary.put("collectionFetches", statistics.getCollectionFetchCount());
+        summary.put("transactions", statistics.getTransactionCount());
+
+        Map<String, Object> entities = new TreeMap<>();
+        for (String name : statistics.getEntityNames()) {
+            EntityStatistics entity = statistics.getEntityStatistics(name);
+            entities.put(name, Map.of("loads", entity.getLoadCount(), "fetches", entity.getFetchCount()));
+        }
+
+        Map<String, Object> collections = new TreeMap<>();
+        for (String role : statistics.getCollectionRoleNames()) {
+            CollectionStatistics collection = statistics.getCollectionStatistics(role);
+            collections.put(role, Map.of("loads", collection.getLoadCount(), "fetches", collection.getFetchCount()));
+        }
+
+        List<Map<String, Object>> slowQueries = new ArrayList<>();
+        for (String query : statistics.getQueries()) {
+            QueryStatistics stat = statistics.getQueryStatistics(query);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("query", query);
+            row.put("executions", stat.getExecutionCount());
+            row.put("avgMillis", stat.getExecutionAvgTime());
+            row.put("maxMillis", stat.getExecutionMaxTime());
+            row.put("rows", stat.getExecutionRowCount());
+            slowQueries.add(row);
+        }
+        slowQueries.sort(Comparator.comparingLong((Map<String, Object> row) -> (Long) row.get("maxMillis")).reversed());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("summary", summary);
+        result.put("entities", entities);
+        result.put("collections", collections);
+        result.put("slowQueries", slowQueries.subList(0, Math.min(SLOW_QUERY_LIMIT, slowQueries.size())));
+        return result;
+    }
+}
@@ -0,0 +1,23 @@
+package com.newyear.mainproject.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * DataSource proxy 에서 실행한 SQL 마다 요청별 SQL 수 증가 (hibernate, JdbcTemplate 모두 포함)
+ * batch 실행은 한 번으로 셈 (DB 왕복 기준)
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats.statementExecuted(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+    }
+}
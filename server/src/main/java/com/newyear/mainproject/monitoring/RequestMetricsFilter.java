@@ -0,0 +1,86 @@
+package com.newyear.mainproject.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 수, 엔티티 로딩 수, 컬렉션 지연 로딩 수를 endpoint(method, uri 패턴) 별 분포로 기록
+ * SQL 수가 query.budget.max-statements 를 넘거나 같은 SQL 이 query.budget.repeat-threshold 번 이상이면(N+1 의심)
+ * 엔티티, 컬렉션 경로와 반복 SQL 을 경고 로그로 남김
+ * 응답 시간은 actuator 의 http.server.requests
+ * security 필터보다 먼저 실행해 토큰 확인 중 조회도 포함
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int repeatThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry,
+                                @Value("${query.budget.max-statements:30}") int maxStatements,
+                                @Value("${query.budget.repeat-threshold:10}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.finish();
+            String uri = uri(request);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+            record("http.server.requests.statements", tags, stats.getStatements());
+            record("http.server.requests.entity.loads", tags, stats.getEntityLoads());
+            record("http.server.requests.collection.fetches", tags, stats.getCollectionFetches());
+            checkBudget(request.getMethod(), uri, tags, stats);
+        }
+    }
+
+    private void checkBudget(String method, String uri, Tags tags, RequestQueryStats stats) {
+        Map<String, Integer> repeated = stats.repeatedQueries(repeatThreshold);
+        boolean overBudget = stats.getStatements() > maxStatements;
+        if (!overBudget && repeated.isEmpty()) return;
+
+        meterRegistry.counter("http.server.requests.query.budget.exceeded", tags).increment();
+        log.warn("{} : {} {} statements={} (budget {}), {}, repeated={}",
+                overBudget ? "query budget exceeded" : "possible N+1", method, uri,
+                stats.getStatements(), maxStatements, stats.describeLoads(), repeated);
+    }
+
+    private void record(String name, Tags tags, int count) {
+        DistributionSummary.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    //컨트롤러에 연결되지 않은 요청(404, 인증 실패 등)은 UNKNOWN - 경로마다 태그가 늘어나지 않게
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
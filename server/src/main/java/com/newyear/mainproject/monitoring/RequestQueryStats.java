@@ -0,0 +1,116 @@
+package com.newyear.mainproject.monitoring;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 하나(요청 스레드)에서 실행한 SQL 수, 불러온 엔티티 수, 지연 로딩한 컬렉션 수
+ * 엔티티 이름, 컬렉션 경로(Board.likes), SQL 문장별 횟수도 함께 기록 (N+1 확인용)
+ * RequestMetricsFilter 가 요청 시작 시 만들고 끝나면 제거, 요청 밖(스케줄러 등)에서는 기록하지 않음
+ * 안에서 다시 start 하면 finish 시 바깥 기록에 더함 (테스트의 @MaxQueries 안에서 MockMvc 요청)
+ */
+public class RequestQueryStats {
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+    //SQL 문장별 횟수는 이 개수까지만 (bulk 작업 등에서 메모리 제한)
+    private static final int MAX_DISTINCT_QUERIES = 200;
+    private static final int MAX_QUERY_LENGTH = 150;
+
+    private final RequestQueryStats parent;
+    @Getter
+    private int statements;
+    @Getter
+    private int entityLoads;
+    @Getter
+    private int collectionFetches;
+    private final Map<String, Integer> entities = new HashMap<>();
+    private final Map<String, Integer> collections = new HashMap<>();
+    private final Map<String, Integer> queries = new HashMap<>();
+
+    private RequestQueryStats(RequestQueryStats parent) {
+        this.parent = parent;
+    }
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 기록 종료 - 바깥 기록이 있으면 더하고 되돌림
+     */
+    public void finish() {
+        if (parent == null) {
+            CURRENT.remove();
+            return;
+        }
+        parent.statements += statements;
+        parent.entityLoads += entityLoads;
+        parent.collectionFetches += collectionFetches;
+        entities.forEach((name, count) -> parent.entities.merge(name, count, Integer::sum));
+        collections.forEach((role, count) -> parent.collections.merge(role, count, Integer::sum));
+        queries.forEach((query, count) -> parent.addQuery(query, count));
+        CURRENT.set(parent);
+    }
+
+    /**
+     * 같은 SQL 이 threshold 번 이상 실행된 횟수 (많은 순, SQL 은 앞부분만)
+     */
+    public Map<String, Integer> repeatedQueries(int threshold) {
+        return queries.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(5)
+                .collect(Collectors.toMap(entry -> abbreviate(entry.getKey()), Map.Entry::getValue,
+                        (a, b) -> a + b, LinkedHashMap::new));
+    }
+
+    //엔티티, 컬렉션 경로별 횟수 (많은 순) - 경고 로그, 테스트 실패 메시지용
+    public String describeLoads() {
+        return "entities=" + sorted(entities) + ", collections=" + sorted(collections);
+    }
+
+    static void statementExecuted(String query) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.statements++;
+        stats.addQuery(query, 1);
+    }
+
+    static void entityLoaded(String entityName) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.entityLoads++;
+        stats.entities.merge(entityName, 1, Integer::sum);
+    }
+
+    static void collectionFetched(String role) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.collectionFetches++;
+        stats.collections.merge(role, 1, Integer::sum);
+    }
+
+    private void addQuery(String query, int count) {
+        if (queries.size() < MAX_DISTINCT_QUERIES || queries.containsKey(query)) {
+            queries.merge(query, count, Integer::sum);
+        }
+    }
+
+    private static String sorted(Map<String, Integer> counts) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> entry.getKey() + " x" + entry.getValue())
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String abbreviate(String query) {
+        String line = query.replaceAll("\\s+", " ").trim();
+        return line.length() > MAX_QUERY_LENGTH ? line.substring(0, MAX_QUERY_LENGTH) + "..." : line;
+    }
+}
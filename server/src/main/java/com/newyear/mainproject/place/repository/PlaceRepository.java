@@ -2,6 +2,16 @@ package com.newyear.mainproject.place.repository;
 
 import com.newyear.mainproject.place.entity.Place;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
+
+    //일정 삭제 시 일괄 삭제
+    @Modifying
+    @Query("delete from Place pl where pl.plan.planId in :planIds")
+    int deleteByPlanIds(@Param("planIds") List<Long> planIds);
 }
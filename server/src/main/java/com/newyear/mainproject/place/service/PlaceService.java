@@ -2,11 +2,10 @@ package com.newyear.mainproject.place.service;
 
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
-import com.newyear.mainproject.member.service.MemberService;
 import com.newyear.mainproject.place.entity.Place;
 import com.newyear.mainproject.place.repository.PlaceRepository;
-import com.newyear.mainproject.plan.entity.Plan;
 import com.newyear.mainproject.plan.entity.PlanDates;
+import com.newyear.mainproject.plan.service.PlanOwnershipService;
 import com.newyear.mainproject.plan.service.PlanService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -21,8 +20,8 @@ import java.util.Optional;
 public class PlaceService {
 
     private final PlaceRepository placeRepository;
-    private final MemberService memberService;
     private final PlanService planService;
+    private final PlanOwnershipService ownershipService;
 
     /**
      * 해당 일정에 대한 장소 정보 등록
@@ -36,10 +35,7 @@ public class PlaceService {
         place.setPlan(planDates.getPlan());
 
         //plan 작성자만 place 생성 가능
-        Plan plan = planService.findPlan(place.getPlan().getPlanId());
-        if (!plan.getMember().equals(memberService.getLoginMember())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
+        ownershipService.verifyPlanOwner(place.getPlan().getPlanId());
 
         return placeRepository.save(place);
     }
@@ -48,12 +44,9 @@ public class PlaceService {
      * 해당 일정에 대한 장소 정보 수정
      */
     public Place updatePlace(Place place) {
-        Place findPlace = findVerifiedPlace(place.getPlaceId());
-
         //작성자만 수정 가능
-        if (!findPlace.getPlan().getMember().equals(memberService.getLoginMember())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
+        ownershipService.verifyPlaceOwner(place.getPlaceId());
+        Place findPlace = findVerifiedPlace(place.getPlaceId());
 
         Optional.ofNullable(place.getPlaceName())
                 .ifPresent(placeName -> findPlace.setPlaceName(placeName));
@@ -85,12 +78,9 @@ public class PlaceService {
      * 해당 일정에 대한 장소 삭제
      */
     public void deletePlace(Long placeId) {
-        Place findPlace = findVerifiedPlace(placeId);
-
         //작성자만 삭제 가능
-        if (!findPlace.getPlan().getMember().equals(memberService.getLoginMember())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
+        ownershipService.verifyPlaceOwner(placeId);
+        Place findPlace = findVerifiedPlace(placeId);
         placeRepository.delete(findPlace);
     }
 
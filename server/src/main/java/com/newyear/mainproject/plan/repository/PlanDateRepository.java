@@ -3,7 +3,17 @@ package com.newyear.mainproject.plan.repository;
 import com.newyear.mainproject.plan.entity.Plan;
 import com.newyear.mainproject.plan.entity.PlanDates;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PlanDateRepository extends JpaRepository<PlanDates, Long> {
     void deleteAllByPlan(Plan plan);
+
+    //일정 삭제 시 일괄 삭제
+    @Modifying
+    @Query("delete from PlanDates d where d.plan.planId in :planIds")
+    int deleteByPlanIds(@Param("planIds") List<Long> planIds);
 }
@@ -2,7 +2,11 @@ package com.newyear.mainproject.plan.repository;
 
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.plan.entity.Plan;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +14,31 @@ import java.util.Optional;
 public interface PlanRepository extends JpaRepository<Plan, Long> {
     List<Plan> findAllByMember(Member member);
     Optional<Plan> findByPlanIdAndMember(Long planId, Member member);
+
+    //일정 작성자 확인용 (id 만 조회)
+    @Query("select p.planId as planId, p.member.memberId as memberId from Plan p where p.planId = :planId")
+    Optional<PlanOwner> findOwnerByPlanId(@Param("planId") Long planId);
+
+    @Query("select pl.plan.planId as planId, pl.plan.member.memberId as memberId from Place pl where pl.placeId = :placeId")
+    Optional<PlanOwner> findOwnerByPlaceId(@Param("placeId") Long placeId);
+
+    @Query("select b.plan.planId as planId, b.plan.member.memberId as memberId from Budget b where b.budgetId = :budgetId")
+    Optional<PlanOwner> findOwnerByBudgetId(@Param("budgetId") Long budgetId);
+
+    @Query("select e.budget.plan.planId as planId, e.budget.plan.member.memberId as memberId from Expenses e where e.expenseId = :expenseId")
+    Optional<PlanOwner> findOwnerByExpenseId(@Param("expenseId") Long expenseId);
+
+    //회원 삭제 시 일괄 삭제
+    @Query("select p.planId from Plan p where p.member.memberId = :memberId")
+    List<Long> findIdsByMemberId(@Param("memberId") long memberId, Pageable pageable);
+
+    //하위 데이터(PlanBulkDeleter) 삭제 후 실행
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Plan p where p.planId in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    interface PlanOwner {
+        Long getPlanId();
+        Long getMemberId();
+    }
 }
@@ -0,0 +1,39 @@
+package com.newyear.mainproject.plan.service;
+
+import com.newyear.mainproject.budget.repository.BudgetRepository;
+import com.newyear.mainproject.expense.repository.ExpenseRepository;
+import com.newyear.mainproject.place.repository.PlaceRepository;
+import com.newyear.mainproject.plan.repository.PlanDateRepository;
+import com.newyear.mainproject.plan.repository.PlanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정과 하위 데이터를 엔티티 단위 cascade 대신 DELETE ... WHERE 로 삭제
+ * 순서 : 지출 -> 장소 -> 예산 -> 날짜 -> 일정 (FK 참조 순)
+ * 도시 인기도, 지출 집계 차감은 호출하는 쪽에서 삭제 전에 처리
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class PlanBulkDeleter {
+
+    private final ExpenseRepository expenseRepository;
+    private final PlaceRepository placeRepository;
+    private final BudgetRepository budgetRepository;
+    private final PlanDateRepository planDateRepository;
+    private final PlanRepository planRepository;
+
+    public int deletePlans(List<Long> planIds) {
+        if (planIds.isEmpty()) return 0;
+
+        expenseRepository.deleteByPlanIds(planIds);
+        placeRepository.deleteByPlanIds(planIds);
+        budgetRepository.deleteByPlanIds(planIds);
+        planDateRepository.deleteByPlanIds(planIds);
+        return planRepository.deleteByIds(planIds);
+    }
+}
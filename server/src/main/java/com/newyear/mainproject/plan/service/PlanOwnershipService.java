@@ -0,0 +1,91 @@
+package com.newyear.mainproject.plan.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.member.service.MemberService;
+import com.newyear.mainproject.plan.repository.PlanRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 일정 작성자 확인 (일정, 장소, 예산, 지출 -> 일정 작성자)
+ * 엔티티를 불러오지 않고 id 만 조회, 결과는 잠깐 캐시 (plan.ownership.cache-ttl-seconds)
+ * 작성자는 바뀌지 않으므로 일정 삭제 시에만 제거
+ */
+@Service
+public class PlanOwnershipService {
+
+    private final PlanRepository planRepository;
+    private final MemberService memberService;
+    private final Cache<String, Owner> cache;
+
+    public PlanOwnershipService(PlanRepository planRepository, MemberService memberService,
+                                @Value("${plan.ownership.cache-ttl-seconds:30}") long ttlSeconds,
+                                @Value("${plan.ownership.cache-max-size:10000}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.planRepository = planRepository;
+        this.memberService = memberService;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "planOwnership");
+    }
+
+    public void verifyPlanOwner(long planId) {
+        verify("plan:" + planId, planId, planRepository::findOwnerByPlanId, ExceptionCode.PLAN_NOT_FOUND);
+    }
+
+    public void verifyPlaceOwner(long placeId) {
+        verify("place:" + placeId, placeId, planRepository::findOwnerByPlaceId, ExceptionCode.PLACE_NOT_FOUND);
+    }
+
+    public void verifyBudgetOwner(long budgetId) {
+        verify("budget:" + budgetId, budgetId, planRepository::findOwnerByBudgetId, ExceptionCode.BUDGET_NOT_FOUND);
+    }
+
+    public void verifyExpenseOwner(long expenseId) {
+        verify("expense:" + expenseId, expenseId, planRepository::findOwnerByExpenseId, ExceptionCode.EXPENSE_NOT_FOUND);
+    }
+
+    /**
+     * 일정 삭제 시 일정과 하위 장소/예산/지출 캐시 제거
+     */
+    public void evictPlan(long planId) {
+        cache.asMap().values().removeIf(owner -> owner.planId == planId);
+    }
+
+    private void verify(String key, long id, Function<Long, Optional<PlanRepository.PlanOwner>> finder, ExceptionCode notFound) {
+        Owner owner = cache.getIfPresent(key);
+        if (owner == null) {
+            //없는 id 는 캐시하지 않음
+            owner = finder.apply(id)
+                    .map(o -> new Owner(o.getPlanId(), o.getMemberId()))
+                    .orElseThrow(() -> new BusinessLogicException(notFound));
+            cache.put(key, owner);
+        }
+
+        if (owner.memberId != memberService.getLoginMemberId()) {
+            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
+        }
+    }
+
+    private static class Owner {
+        private final long planId;
+        private final long memberId;
+
+        Owner(long planId, long memberId) {
+            this.planId = planId;
+            this.memberId = memberId;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.newyear.mainproject.plan.service;
 
 import com.newyear.mainproject.board.service.BoardService;
+import com.newyear.mainproject.city.service.CityPopularityService;
 import com.newyear.mainproject.city.service.CityService;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.expense.service.ExpenseRollupService;
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.member.service.MemberService;
+import com.newyear.mainproject.member.service.MemberStatsService;
 import com.newyear.mainproject.plan.entity.Plan;
 import com.newyear.mainproject.plan.entity.PlanDates;
 import com.newyear.mainproject.plan.repository.PlanDateRepository;
@@ -25,13 +28,26 @@ public class PlanService {
    private final MemberService memberService;
    private final CityService cityService;
    private final BoardService boardService;
-
-    public PlanService(PlanRepository planRepository, PlanDateRepository planDateRepository, MemberService memberService, CityService cityService, @Lazy BoardService boardService) {
+   private final ExpenseRollupService rollupService;
+   private final CityPopularityService popularityService;
+   private final PlanOwnershipService ownershipService;
+   private final MemberStatsService memberStatsService;
+   private final PlanBulkDeleter planBulkDeleter;
+
+    public PlanService(PlanRepository planRepository, PlanDateRepository planDateRepository, MemberService memberService, CityService cityService, @Lazy BoardService boardService,
+                       ExpenseRollupService rollupService, CityPopularityService popularityService,
+                       PlanOwnershipService ownershipService, MemberStatsService memberStatsService,
+                       PlanBulkDeleter planBulkDeleter) {
         this.planRepository = planRepository;
         this.planDateRepository = planDateRepository;
         this.memberService = memberService;
         this.cityService = cityService;
         this.boardService = boardService;
+        this.rollupService = rollupService;
+        this.popularityService = popularityService;
+        this.ownershipService = ownershipService;
+        this.memberStatsService = memberStatsService;
+        this.planBulkDeleter = planBulkDeleter;
     }
     /**
      * 일정 등록
@@ -39,19 +55,19 @@ public class PlanService {
     public Plan createPlan(Plan plan) {
         plan.setMember(memberService.getLoginMember());
         plan.setCity(cityService.findCity(plan.getCityName()));
-        return planRepository.save(plan);
+        Plan savedPlan = planRepository.save(plan);
+        popularityService.planCreated(savedPlan);
+        memberStatsService.planCreated(savedPlan);
+        return savedPlan;
     }
 
     /**
      * 일정 수정
      */
     public Plan updatePlan(Plan plan) {
-        Plan findPlan = findVerifiedPlan(plan.getPlanId());
-
         //작성자만 수정 가능
-        if (!findPlan.getMember().equals(memberService.getLoginMember())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
+        ownershipService.verifyPlanOwner(plan.getPlanId());
+        Plan findPlan = findVerifiedPlan(plan.getPlanId());
 
         Optional.ofNullable(plan.getPlanTitle())
                 .ifPresent(planTitle -> findPlan.setPlanTitle(planTitle));
@@ -110,18 +126,24 @@ public class PlanService {
      * 일정 삭제
      */
     public void deletePlan(Long planId) {
-        Plan findPlan = findVerifiedPlan(planId);
         //작성자만 삭제 가능
-        if (!findPlan.getMember().equals(memberService.getLoginMember())) {
-            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
-        }
+        ownershipService.verifyPlanOwner(planId);
+        Plan findPlan = findVerifiedPlan(planId);
 
         //이 일정에 관련된 게시물이 있으면 게시물 삭제 먼저 하도록 예외 처리
         if(!boardService.findPlanBoards(findPlan.getPlanId()).isEmpty()) {
             throw new BusinessLogicException(ExceptionCode.BOARD_CHECK_EXISTS);
         }
 
-        planRepository.delete(findPlan);
+        //일정 삭제 시 예산에 연결된 지출 집계 차감
+        Optional.ofNullable(findPlan.getBudget())
+                .ifPresent(rollupService::removeBudget);
+
+        popularityService.planDeleted(findPlan);
+        memberStatsService.planDeleted(findPlan);
+        //하위 데이터는 한 번씩 일괄 삭제
+        planBulkDeleter.deletePlans(List.of(planId));
+        ownershipService.evictPlan(planId);
     }
 
     /**
@@ -2,12 +2,14 @@ package com.newyear.mainproject.security.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
+import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ErrorResponse;
 import com.newyear.mainproject.exception.ExceptionCode;
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.security.dto.LoginDto;
 import com.newyear.mainproject.security.jwt.JwtTokenizer;
 import com.newyear.mainproject.security.logout.RedisUtil;
+import com.newyear.mainproject.security.utils.PasswordHashExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.springframework.http.MediaType;
@@ -31,14 +33,14 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private final AuthenticationManager authenticationManager;
     private final JwtTokenizer jwtTokenizer;
     private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final PasswordHashExecutor passwordHashExecutor;
 
     //메서드 내부에서 인증을 시도하는 로직
     @SneakyThrows
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) {
 
-        //클라이언트에서 전송한 Username과 Password를 DTO 클래스로 역직렬화(Deserialization)하기 위해 ObjectMapper 인스턴스를 생성
-        ObjectMapper objectMapper = new ObjectMapper();
         //objectMapper.readValue(request.getInputStream(), LoginDto.class)를 통해 ServletInputStream 을 LoginDto 클래스의 객체로 역직렬화(Deserialization)
         LoginDto loginDto = objectMapper.readValue(request.getInputStream(), LoginDto.class);
 
@@ -46,13 +48,19 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(loginDto.getEmail(), loginDto.getPassword());
 
-        //UsernamePasswordAuthenticationToken을 AuthenticationManager에게 전달하면서 인증 처리
+        //UsernamePasswordAuthenticationToken을 AuthenticationManager에게 전달하면서 인증 처리 (BCrypt 는 전용 스레드 풀에서 실행)
         //구글로그인하면 비밀번호가 null 이라 IllegalArgumentException 가 뜨면 sendErrorResponse 로 예외처리
         try{
-            return authenticationManager.authenticate(authenticationToken);
+            return passwordHashExecutor.execute(() -> authenticationManager.authenticate(authenticationToken));
         }
         catch (IllegalArgumentException e){
-            sendErrorResponse(response);
+            sendErrorResponse(response, ExceptionCode.UNAUTHORIZED);
+        }
+        catch (BusinessLogicException e){
+            //로그인 요청이 몰려 대기열이 가득 찬 경우
+            if (e.getExceptionCode() != ExceptionCode.SERVICE_UNAVAILABLE) throw e;
+            response.setHeader("Retry-After", "1");
+            sendErrorResponse(response, ExceptionCode.SERVICE_UNAVAILABLE);
         }
         return null;
     }
@@ -103,6 +111,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     //Access Token을 생성
     private Map<String, Object> delegateAccessToken(Member member) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put("memberId", member.getMemberId());
         claims.put("username", member.getEmail());
         claims.put("roles", member.getRoles());
 
@@ -110,9 +119,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
         LocalDateTime localDateTime = LocalDateTime.now().plusMinutes(jwtTokenizer.getAccessTokenExpirationMinutes());
 
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
+        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration);
         Map<String, Object> map = new HashMap<>();
         map.put("accessToken", accessToken);
         map.put("expiration", localDateTime);
@@ -124,9 +131,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     private String delegateRefreshToken(Member member) {
         String subject = member.getEmail();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
 
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration, base64EncodedSecretKey);
+        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration);
 
         //리프레시 토큰 redis에 저장
         redisUtil.set(subject, refreshToken, jwtTokenizer.getRefreshTokenExpirationMinutes());
@@ -134,9 +140,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         return refreshToken;
     }
 
-    private void sendErrorResponse(HttpServletResponse response) throws IOException {
-        ExceptionCode exceptionCode = ExceptionCode.UNAUTHORIZED;
-
+    private void sendErrorResponse(HttpServletResponse response, ExceptionCode exceptionCode) throws IOException {
         Gson gson = new Gson();
         ErrorResponse errorResponse = ErrorResponse.of(exceptionCode);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
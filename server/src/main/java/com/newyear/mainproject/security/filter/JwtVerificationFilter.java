@@ -3,11 +3,16 @@ package com.newyear.mainproject.security.filter;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
 import com.newyear.mainproject.security.jwt.JwtTokenizer;
-import com.newyear.mainproject.security.logout.RedisUtil;
+import com.newyear.mainproject.security.jwt.VerifiedTokenCache;
+import com.newyear.mainproject.security.logout.TokenBlacklist;
+import com.newyear.mainproject.security.logout.TokenVersionService;
+import com.newyear.mainproject.security.userdetails.MemberPrincipal;
 import com.newyear.mainproject.security.utils.CustomAuthorityUtils;
+import com.newyear.mainproject.security.utils.ErrorResponder;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -20,28 +25,35 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 public class JwtVerificationFilter extends OncePerRequestFilter{
     private final JwtTokenizer jwtTokenizer;
     private final CustomAuthorityUtils authorityUtils;
-    private final RedisUtil redisUtil;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenVersionService tokenVersionService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtVerificationFilter(JwtTokenizer jwtTokenizer,
                                  CustomAuthorityUtils authorityUtils,
-                                 RedisUtil redisUtil) {
+                                 TokenBlacklist tokenBlacklist,
+                                 TokenVersionService tokenVersionService,
+                                 VerifiedTokenCache verifiedTokenCache) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
-        this.redisUtil = redisUtil;
+        this.tokenBlacklist = tokenBlacklist;
+        this.tokenVersionService = tokenVersionService;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
-            Map<String, Object> claims = verifyJws(request);
+            VerifiedTokenCache.VerifiedToken token = verifyJws(request);
 
-            if(redisUtil.hasKeyBlackList(request.getHeader("Authorization").replace("Bearer ", ""))){
+            //로그아웃한 토큰(jti) 또는 모든 기기 로그아웃 이전 버전의 토큰
+            if(tokenBlacklist.isRevoked(token.getJti())
+                    || !tokenVersionService.isCurrent(token.getUsername(), token.getVersion())){
                 throw new BusinessLogicException(ExceptionCode.INVALID_MEMBER_STATUS);
             }
 
@@ -57,11 +69,19 @@ public class JwtVerificationFilter extends OncePerRequestFilter{
 
 //            TODO★★★★★★★★★★★★★★★★★★★★★재발급 부분 임시로 저장 재발급 넣어야 할부분에 넣으면 될듯★★★★★★★★★★★★★★★★★★
 
-            setAuthenticationToContext(claims);
+            setAuthenticationToContext(token);
         } catch (SignatureException se) {
             request.setAttribute("exception", se);
         } catch (ExpiredJwtException ee) {
             request.setAttribute("exception", ee);
+        } catch (BusinessLogicException be) {
+            //redis 장애 + blacklist closed 정책 : 인증하지 않고 503
+            if (be.getExceptionCode() == ExceptionCode.SERVICE_UNAVAILABLE) {
+                response.setHeader("Retry-After", String.valueOf(tokenBlacklist.retryAfterSeconds()));
+                ErrorResponder.sendErrorResponse(response, HttpStatus.SERVICE_UNAVAILABLE);
+                return;
+            }
+            request.setAttribute("exception", be);
         } catch (Exception e) {
             request.setAttribute("exception", e);
         }
@@ -76,18 +96,16 @@ public class JwtVerificationFilter extends OncePerRequestFilter{
         return authorization == null || !authorization.startsWith("Bearer");
     }
 
-    private Map<String, Object> verifyJws(HttpServletRequest request) {
+    //같은 토큰은 캐시에서 꺼내 서명 검증/claims 파싱 생략
+    private VerifiedTokenCache.VerifiedToken verifyJws(HttpServletRequest request) {
         String jws = request.getHeader("Authorization").replace("Bearer ", "");
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-        Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
-
-        return claims;
+        return verifiedTokenCache.get(jws, token -> jwtTokenizer.getClaims(token).getBody());
     }
 
-    private void setAuthenticationToContext(Map<String, Object> claims) {
-        String username = (String) claims.get("username");
-        List<GrantedAuthority> authorities = authorityUtils.createAuthorities((List)claims.get("roles"));
-        Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
+    private void setAuthenticationToContext(VerifiedTokenCache.VerifiedToken token) {
+        MemberPrincipal principal = new MemberPrincipal(token.getMemberId(), token.getUsername(), token.getRoles());
+        List<GrantedAuthority> authorities = authorityUtils.createAuthorities(token.getRoles());
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
@@ -1,13 +1,11 @@
 package com.newyear.mainproject.security.handler;
 
-import com.newyear.mainproject.member.entity.Member;
-import com.newyear.mainproject.member.repository.MemberRepository;
 import com.newyear.mainproject.security.jwt.JwtTokenizer;
 import com.newyear.mainproject.security.logout.RedisUtil;
+import com.newyear.mainproject.security.oauth.OAuth2MemberPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -26,7 +24,6 @@ import java.util.Map;
 @Slf4j
 public class OAuth2MemberSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final JwtTokenizer jwtTokenizer;
-    private final MemberRepository memberRepository;
     private final RedisUtil redisUtil;
 
     @Override
@@ -34,65 +31,44 @@ public class OAuth2MemberSuccessHandler extends SimpleUrlAuthenticationSuccessHa
                                         HttpServletResponse response,
                                         Authentication authentication) throws IOException {
 
-        String email;
-        String clientId;
-        var oAuth2User = (OAuth2User) authentication.getPrincipal();
-        Map<String, Object> attributes = oAuth2User.getAttributes();
-        Map<String,Object> kakao = (Map<String, Object>) attributes.get("kakao_account");
-
-        if (kakao != null) {
-            email = kakao.get("email").toString();
-            clientId = "KAKAO";
-        } else if (attributes.get("email") == null) {
-            email = attributes.get("id").toString() + "@facebook.com";
-            clientId = "FACEBOOK";
-        } else {
-            email = attributes.get("email").toString();
-            clientId = "FACEBOOK";
-            if (attributes.get("sub") != null) {
-                clientId = "GOOGLE";
-            }
-        }
-
-        String password = memberRepository.findByEmail(email).get().getPassword();
+        //회원은 CustomOAuth2UserService 에서 조회한 값 사용 (추가 조회 없음)
+        OAuth2MemberPrincipal principal = (OAuth2MemberPrincipal) authentication.getPrincipal();
 
-        log.info("member's email : {}", email);
+        log.info("member's email : {}", principal.getEmail());
 
-        redirect(request, response, email, password.equals(clientId));
+        redirect(request, response, principal);
     }
 
-    private void redirect(HttpServletRequest request, HttpServletResponse response, String username, boolean isMember) throws IOException {
+    private void redirect(HttpServletRequest request, HttpServletResponse response, OAuth2MemberPrincipal principal) throws IOException {
         String accessToken = "";
         String refreshToken = "";
 
-        if (isMember) {
-            accessToken = delegateAccessToken(username, List.of("USER"));
-            refreshToken = delegateRefreshToken(username);
+        if (principal.isSameProvider()) {
+            accessToken = delegateAccessToken(principal.getMemberId(), principal.getEmail(), List.of("USER"));
+            refreshToken = delegateRefreshToken(principal.getEmail());
 
             response.setHeader("Authorization", "Bearer " + accessToken);
             response.setHeader("Refresh", refreshToken);
         }
 
-        Member member = memberRepository.findByEmail(username).get();
-        String uri = createURI("Bearer " + accessToken, refreshToken, member.getMemberId()).toString();
+        String uri = createURI("Bearer " + accessToken, refreshToken, principal.getMemberId()).toString();
 
         getRedirectStrategy().sendRedirect(request, response, uri);
 
     }
 
-    private String delegateAccessToken(String username, List<String> authorities) {
+    private String delegateAccessToken(long memberId, String username, List<String> authorities) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put("memberId", memberId);
         claims.put("username", username);
         claims.put("roles", authorities);
 
         String subject = username;
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
 
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
+        String accessToken = jwtTokenizer.generateAccessToken(claims, subject, expiration);
 
-        System.out.println("엑세스토큰 생성됨★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★");
+        log.debug("oauth2 access token issued : memberId={}", memberId);
 
         return accessToken;
     }
@@ -100,15 +76,14 @@ public class OAuth2MemberSuccessHandler extends SimpleUrlAuthenticationSuccessHa
     private String delegateRefreshToken(String username) {
         String subject = username;
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
 
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration, base64EncodedSecretKey);
+        String refreshToken = jwtTokenizer.generateRefreshToken(subject, expiration);
 
 
         //리프레시 토큰 redis에 저장
         redisUtil.set(subject, refreshToken, jwtTokenizer.getRefreshTokenExpirationMinutes());
 
-        System.out.println("리프레쉬토큰 생성됨★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★★");
+        log.debug("oauth2 refresh token issued : {}", subject);
 
         return refreshToken;
     }
@@ -1,34 +1,51 @@
 package com.newyear.mainproject.security.jwt;
 
+import com.newyear.mainproject.security.logout.TokenVersionService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenizer {
+    public static final String VERSION_CLAIM = "ver";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     @Getter
     @Value("${jwt.secret-key}")
     private String secretKey;
 
+    //현재 서명 키 id (토큰 header 의 kid)
+    @Getter
+    @Value("${jwt.key-id:default}")
+    private String keyId;
+
+    //교체 전 키 (kid=secret,kid=secret) - 기존 토큰 검증용
+    @Value("${jwt.previous-keys:}")
+    private String previousKeys;
+
     @Getter
     @Value("${jwt.access-token-expiration-minutes}")
     private int accessTokenExpirationMinutes;
@@ -37,55 +54,84 @@ public class JwtTokenizer {
     @Value("${jwt.refresh-token-expiration-minutes}")
     private int refreshTokenExpirationMinutes;
 
-    public String encodeBase64SecretKey(String secretKey) {
-        return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
+    private final TokenVersionService tokenVersionService;
+
+    private Key signingKey;
+    private Map<String, Key> verificationKeys;
+    //JwtParser 는 불변 객체라 스레드 간 공유 가능
+    private JwtParser parser;
+
+    /**
+     * 서명 키와 parser 는 시작 시 한 번만 생성
+     * 키 교체 : 새 키를 jwt.secret-key / jwt.key-id 로, 이전 키를 jwt.previous-keys 로 옮기면
+     * 기존 토큰은 만료될 때까지 kid 로 이전 키를 찾아 검증
+     */
+    public JwtTokenizer(TokenVersionService tokenVersionService) {
+        this.tokenVersionService = tokenVersionService;
     }
 
-    //access token 생성
+    @PostConstruct
+    public void init() {
+        signingKey = toKey(secretKey);
+
+        Map<String, Key> keys = new HashMap<>();
+        for (String entry : previousKeys.split(",")) {
+            int index = entry.indexOf('=');
+            if (index <= 0) continue;
+            keys.put(entry.substring(0, index).trim(), toKey(entry.substring(index + 1).trim()));
+        }
+        keys.put(keyId, signingKey);
+        verificationKeys = Map.copyOf(keys);
+
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    //jjwt 0.11 의 SigningKeyResolver 가 raw JwsHeader 로 선언되어 JwsHeader<?> 로는 override 불가
+                    @SuppressWarnings("rawtypes")
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        //kid 가 없는 토큰 (키 id 도입 전 발급) 은 현재 키로 검증
+                        if (header.getKeyId() == null) return signingKey;
+                        Key key = verificationKeys.get(header.getKeyId());
+                        if (key == null) throw new SignatureException("unknown key id : " + header.getKeyId());
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    //access token 생성 (jti : 폐기용 id, ver : 회원 토큰 버전)
     public String generateAccessToken(Map<String, Object> claims,
                                       String subject,
-                                      Date expiration,
-                                      String base64EncodeSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodeSecretKey);
-
+                                      Date expiration) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setClaims(claims)
+                .claim(VERSION_CLAIM, tokenVersionService.getVersion(subject))
+                .setId(newJti())
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(expiration)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
     }
 
     //refresh token 생성
-    public String generateRefreshToken(String subject, Date expiration, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
+    public String generateRefreshToken(String subject, Date expiration) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(expiration)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
     }
 
-    public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
-        return claims;
+    public Jws<Claims> getClaims(String jws) {
+        return parser.parseClaimsJws(jws);
     }
 
-    public void verifySignature(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+    public void verifySignature(String jws) {
+        parser.parseClaimsJws(jws);
     }
 
     public Date getTokenExpiration(int expirationMinutes) {
@@ -96,16 +142,19 @@ public class JwtTokenizer {
         return expiration;
     }
 
-    private Key getKeyFromBase64EncodedKey(String base64EncodedSecretKey) {
-        byte[] keyBytes = Decoders.BASE64.decode(base64EncodedSecretKey);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
+    //12자 (72bit)
+    private static String newJti() {
+        byte[] bytes = new byte[9];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 
-        return key;
+    private static Key toKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
 
-    public Long getExpiration(String accessToken, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody().getExpiration();
+    public Long getExpiration(String accessToken) {
+        Date expiration = parser.parseClaimsJws(accessToken).getBody().getExpiration();
         Long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
@@ -113,7 +162,7 @@ public class JwtTokenizer {
     //access토큰 유효성, 만료일자 확인
     public boolean validateToken(String jwtToken) {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey.getBytes()).parseClaimsJws(jwtToken);
+            Jws<Claims> claims = parser.parseClaimsJws(jwtToken);
             return !claims.getBody().getExpiration().before(new Date());
         } catch (ExpiredJwtException e) {
             log.info(e.getMessage());
@@ -125,11 +174,8 @@ public class JwtTokenizer {
     public Long getBlacklistTime(LocalDateTime localDateTime){
         Duration duration = Duration.between(LocalDateTime.now(), localDateTime);
 
-        System.out.println("duration : " + duration );
-
         Long blacklistTime = duration.getSeconds() + 1;
-
-        System.out.println("blackListTime : " + blacklistTime);
+        log.debug("blacklist time : duration={}, seconds={}", duration, blacklistTime);
 
         return blacklistTime;
     }
@@ -137,11 +183,8 @@ public class JwtTokenizer {
     public Long getBlacklistTime(){
         Duration duration = Duration.ofMinutes(getAccessTokenExpirationMinutes());
 
-        System.out.println("duration : " + duration );
-
         Long blacklistTime = duration.getSeconds() + 1;
-
-        System.out.println("blackListTime : " + blacklistTime);
+        log.debug("blacklist time : duration={}, seconds={}", duration, blacklistTime);
 
         return blacklistTime;
     }
@@ -150,11 +193,8 @@ public class JwtTokenizer {
     public Long getBlacklistTime(long millis){
         Duration duration = Duration.ofMillis(millis);
 
-        System.out.println("남은 유효시간 Duration 으로 변환 : " + duration );
-
         Long blacklistTime = duration.getSeconds() + 1;
-
-        System.out.println("blackListTime : " + blacklistTime);
+        log.debug("blacklist time : remaining={}, seconds={}", duration, blacklistTime);
 
         return blacklistTime;
     }
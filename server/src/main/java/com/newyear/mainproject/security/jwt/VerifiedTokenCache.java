@@ -0,0 +1,137 @@
+package com.newyear.mainproject.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.newyear.mainproject.security.utils.TokenHashUtils;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 검증 끝난 access token 캐시 (토큰 해시 -> memberId, username, roles, jti, ver, exp)
+ * 폐기 여부(jti, ver)는 캐시와 별개로 요청마다 확인
+ * 개수(jwt.verified-cache.max-size)와 TTL(jwt.verified-cache.ttl-seconds) 제한, 토큰 exp 가 지나면 만료
+ */
+@Component
+public class VerifiedTokenCache {
+
+    //해시 키(base64 43자) + 엔트리 기본 크기 대략치
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    private final Cache<String, VerifiedToken> cache;
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.verified-cache.ttl-seconds:300}") long ttlSeconds,
+                              MeterRegistry meterRegistry) {
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long untilExp = TimeUnit.MILLISECONDS.toNanos(value.getExpiresAt() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(untilExp, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .removalListener((String key, VerifiedToken value, RemovalCause cause) -> {
+                    if (value != null) estimatedBytes.addAndGet(-value.getEstimatedBytes());
+                })
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedToken");
+        Gauge.builder("cache.estimated.bytes", estimatedBytes, AtomicLong::get)
+                .tag("cache", "verifiedToken")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없으면 verifier 로 서명/claims 검증 후 저장
+     * verifier 예외(만료, 서명 오류)는 그대로 전달되고 저장되지 않음
+     */
+    public VerifiedToken get(String jws, Function<String, Claims> verifier) {
+        String key = TokenHashUtils.hash(jws);
+        VerifiedToken token = cache.getIfPresent(key);
+        if (token != null && token.getExpiresAt() > System.currentTimeMillis()) {
+            return token;
+        }
+
+        VerifiedToken verified = VerifiedToken.of(verifier.apply(jws), key);
+        cache.put(key, verified);
+        estimatedBytes.addAndGet(verified.getEstimatedBytes());
+        return verified;
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("estimatedBytes", estimatedBytes.get());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    @Getter
+    public static class VerifiedToken {
+        private final Long memberId;
+        private final String username;
+        private final List<String> roles;
+        private final String jti;
+        private final int version;
+        private final long expiresAt;
+        private final int estimatedBytes;
+
+        private VerifiedToken(Long memberId, String username, List<String> roles, String jti, int version, long expiresAt) {
+            this.memberId = memberId;
+            this.username = username;
+            this.roles = roles;
+            this.jti = jti;
+            this.version = version;
+            this.expiresAt = expiresAt;
+            this.estimatedBytes = ENTRY_OVERHEAD_BYTES + username.length() * 2 + jti.length() * 2
+                    + roles.stream().mapToInt(role -> 40 + role.length() * 2).sum();
+        }
+
+        //jti, ver, memberId 없이 발급된 토큰은 토큰 해시, 버전 0, memberId null 로 취급
+        @SuppressWarnings("unchecked")
+        static VerifiedToken of(Claims claims, String tokenHash) {
+            List<String> roles = claims.get("roles", List.class);
+            Integer version = claims.get(JwtTokenizer.VERSION_CLAIM, Integer.class);
+            Number memberId = claims.get("memberId", Number.class);
+            return new VerifiedToken(memberId == null ? null : memberId.longValue(),
+                    claims.get("username", String.class),
+                    roles == null ? List.of() : List.copyOf(roles),
+                    claims.getId() == null ? tokenHash : claims.getId(),
+                    version == null ? 0 : version,
+                    claims.getExpiration().getTime());
+        }
+    }
+}
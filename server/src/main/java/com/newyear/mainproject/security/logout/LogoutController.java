@@ -4,7 +4,6 @@ import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.member.service.MemberService;
-import com.newyear.mainproject.security.jwt.JwtTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -22,7 +21,8 @@ import javax.validation.constraints.NotBlank;
 @RequestMapping("/members")
 @Slf4j
 public class LogoutController{
-    private final JwtTokenizer jwtTokenizer;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenVersionService tokenVersionService;
     private final RedisUtil redisUtil;
     private final MemberService memberService;
 
@@ -31,13 +31,8 @@ public class LogoutController{
         Member member = memberService.getLoginMember();
 
         String accessToken = token.replace("Bearer ", "");
-//        String key = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-        String encodeBase64SecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        System.out.println("access 토큰 남은 유효시간 : " + jwtTokenizer.getExpiration(accessToken, encodeBase64SecretKey));
-
         try{
-            redisUtil.setBlackList(accessToken, "access_token", jwtTokenizer.getBlacklistTime(jwtTokenizer.getExpiration(accessToken, encodeBase64SecretKey)));
+            tokenBlacklist.revoke(accessToken);
         }
         catch (NullPointerException e){
             throw new BusinessLogicException(ExceptionCode.MEMBER_NOT_LOGIN);
@@ -51,4 +46,21 @@ public class LogoutController{
         return new ResponseEntity<>(HttpStatus.OK);
 
     }
+
+    /**
+     * 모든 기기 로그아웃 - 토큰 버전을 올려 이전에 발급된 access token 전부 무효화
+     */
+    @PostMapping("/logout/all")
+    public ResponseEntity logoutAll() {
+        Member member = memberService.getLoginMember();
+
+        tokenVersionService.increaseVersion(member.getEmail());
+
+        //refresh token 삭제
+        if (redisUtil.hasKey(member.getEmail())) {
+            redisUtil.delete(member.getEmail());
+        }
+
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
 }
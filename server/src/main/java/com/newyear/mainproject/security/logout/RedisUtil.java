@@ -1,53 +1,101 @@
 package com.newyear.mainproject.security.logout;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * redis 명령 - 명령별 응답 시간은 redis.command timer (command 태그)
+ */
 @Component
-@RequiredArgsConstructor
 public class RedisUtil {
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisTemplate<String, Object> redisBlackListTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, Long> longRedisTemplate;
 
-    public void set(String key, Object o, int minutes) {
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(o.getClass()));
-        redisTemplate.opsForValue().set(key, o, minutes, TimeUnit.MINUTES);
+    private final Timer setTimer;
+    private final Timer getTimer;
+    private final Timer deleteTimer;
+    private final Timer hasKeyTimer;
+    private final Timer getCountTimer;
+    private final Timer incrementTimer;
+    private final Timer batchTimer;
+
+    public RedisUtil(StringRedisTemplate stringRedisTemplate, RedisTemplate<String, Long> longRedisTemplate,
+                     MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.longRedisTemplate = longRedisTemplate;
+        this.setTimer = commandTimer(meterRegistry, "set");
+        this.getTimer = commandTimer(meterRegistry, "get");
+        this.deleteTimer = commandTimer(meterRegistry, "delete");
+        this.hasKeyTimer = commandTimer(meterRegistry, "hasKey");
+        this.getCountTimer = commandTimer(meterRegistry, "getCount");
+        this.incrementTimer = commandTimer(meterRegistry, "increment");
+        this.batchTimer = commandTimer(meterRegistry, "batch");
+    }
+
+    public void set(String key, String value, int minutes) {
+        setTimer.record(() -> stringRedisTemplate.opsForValue().set(key, value, minutes, TimeUnit.MINUTES));
     }
 
-    public Object get(String key) {
-        return redisTemplate.opsForValue().get(key);
+    public String get(String key) {
+        return getTimer.record(() -> stringRedisTemplate.opsForValue().get(key));
     }
 
     public boolean delete(String key) {
-        return redisTemplate.delete(key);
+        return Boolean.TRUE.equals(deleteTimer.record(() -> stringRedisTemplate.delete(key)));
     }
 
     public boolean hasKey(String key) {
-        return redisTemplate.hasKey(key);
+        return Boolean.TRUE.equals(hasKeyTimer.record(() -> stringRedisTemplate.hasKey(key)));
+    }
+
+    public Long getCount(String key) {
+        return getCountTimer.record(() -> longRedisTemplate.opsForValue().get(key));
+    }
+
+    //카운터 증가 + 만료 시간 갱신 (한 번에 전송)
+    public long increment(String key, Duration ttl) {
+        List<Object> results = incrementTimer.record(() -> pipelined(connection -> {
+            connection.incr(key);
+            connection.pExpire(key, ttl.toMillis());
+        }));
+        return (Long) results.get(0);
     }
 
-//    public void setBlackList(String key, Object o, Long milliSeconds) {
-//        redisBlackListTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(o.getClass()));
-//        redisBlackListTemplate.opsForValue().set(key, o, milliSeconds, TimeUnit.MILLISECONDS);
-//    }
-    public void setBlackList(String key, Object o, Long seconds) {
-        redisBlackListTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(o.getClass()));
-        redisBlackListTemplate.opsForValue().set(key, o, seconds, TimeUnit.SECONDS);
+    /**
+     * 여러 명령을 pipeline 으로 한 번에 전송
+     * 결과는 명령 순서대로 (SADD, INCR : Long / EXPIRE : Boolean / GET : String)
+     */
+    public List<Object> batch(Consumer<StringRedisConnection> commands) {
+        return batchTimer.record(() -> pipelined(commands));
     }
 
-    public Object getBlackList(String key) {
-        return redisBlackListTemplate.opsForValue().get(key);
+    private List<Object> pipelined(Consumer<StringRedisConnection> commands) {
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept(toStringConnection(connection));
+            return null;
+        });
     }
 
-    public boolean deleteBlackList(String key) {
-        return redisBlackListTemplate.delete(key);
+    //StringRedisTemplate 은 콜백에 StringRedisConnection 을 넘김
+    private StringRedisConnection toStringConnection(RedisConnection connection) {
+        return (StringRedisConnection) connection;
     }
 
-    public boolean hasKeyBlackList(String key) {
-        return redisBlackListTemplate.hasKey(key);
+    //histogram, 백분위는 management.metrics.distribution.*.redis.command 설정
+    private static Timer commandTimer(MeterRegistry meterRegistry, String command) {
+        return Timer.builder("redis.command")
+                .tag("command", command)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,202 @@
+package com.newyear.mainproject.security.logout;
+
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.security.jwt.JwtTokenizer;
+import com.newyear.mainproject.security.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃/탈퇴한 access token 목록 (near cache)
+ * 토큰 원문 대신 jti 만 저장 (jti 없이 발급된 토큰은 토큰 해시)
+ * 요청마다 redis 를 조회하지 않고 로컬 목록(jti -> 만료 시각)만 확인
+ * 다른 서버의 등록은 pub/sub 으로 받고, redis 재연결 시 blacklist:index 로 전체 다시 맞춤
+ * 이전 방식(토큰 원문을 key 로 저장)으로 등록된 토큰은 시작 후 처음 연결될 때 blacklist:index 로 옮김
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+    public static final String CHANNEL = "token-blacklist";
+    private static final String INDEX_KEY = "blacklist:index";
+    //이전 방식의 key (access token 원문, 값은 "access_token") - JWT 헤더는 항상 eyJ 로 시작
+    private static final String LEGACY_KEY_PATTERN = "eyJ*";
+    private static final String LEGACY_VALUE = "access_token";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JwtTokenizer jwtTokenizer;
+    private final VerifiedTokenCache verifiedTokenCache;
+    //redis 에 연결할 수 없을 때 로컬 목록만으로 허용(open) / 인증 거부(closed)
+    private final boolean failOpen;
+    private final long healthInterval;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    //redis 장애 중 등록해 아직 다른 서버에 알리지 못한 토큰 (재연결 시 반영)
+    private final Map<String, Long> unpublished = new ConcurrentHashMap<>();
+    private volatile boolean redisAvailable = false;
+    private volatile boolean legacyImported = false;
+
+    public TokenBlacklist(StringRedisTemplate stringRedisTemplate, JwtTokenizer jwtTokenizer, VerifiedTokenCache verifiedTokenCache,
+                          @Value("${jwt.blacklist.fail-policy:open}") String failPolicy,
+                          @Value("${jwt.blacklist.health-interval:5000}") long healthInterval) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jwtTokenizer = jwtTokenizer;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.failOpen = !"closed".equalsIgnoreCase(failPolicy);
+        this.healthInterval = healthInterval;
+    }
+
+    /**
+     * 토큰 등록 (로그아웃, 탈퇴)
+     * redis 장애 시 open 이면 로컬에만 등록하고 재연결 때 반영, closed 면 503
+     */
+    public void revoke(String accessToken) {
+        VerifiedTokenCache.VerifiedToken token = verifiedTokenCache.get(accessToken, jws -> jwtTokenizer.getClaims(jws).getBody());
+        add(token.getJti(), token.getExpiresAt());
+
+        try {
+            publish(token.getJti(), token.getExpiresAt());
+        } catch (RuntimeException e) {
+            redisAvailable = false;
+            if (!failOpen) {
+                throw new BusinessLogicException(ExceptionCode.SERVICE_UNAVAILABLE);
+            }
+            log.warn("redis unavailable, token revoked locally : {}", e.getMessage());
+            unpublished.put(token.getJti(), token.getExpiresAt());
+        }
+    }
+
+    public boolean isRevoked(String jti) {
+        if (!redisAvailable && !failOpen) {
+            throw new BusinessLogicException(ExceptionCode.SERVICE_UNAVAILABLE);
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    //closed 정책에서 redis 장애로 거부할 때 다시 시도할 때까지의 시간(초) - 연결 확인 주기
+    public long retryAfterSeconds() {
+        return Math.max(1, (healthInterval + 999) / 1000);
+    }
+
+    //다른 서버에서 등록한 토큰
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.lastIndexOf(':');
+        if (index <= 0) return;
+        add(body.substring(0, index), Long.parseLong(body.substring(index + 1)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        checkRedis();
+    }
+
+    /**
+     * redis 연결 확인, 끊겼다가 다시 연결되면 그동안 놓친 메시지 대신 전체 동기화
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.health-interval:5000}")
+    public void checkRedis() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        unpublished.values().removeIf(expiresAt -> expiresAt <= now);
+
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) RedisConnection::ping);
+            if (!redisAvailable) {
+                if (!legacyImported) {
+                    importLegacyKeys();
+                    legacyImported = true;
+                }
+                publishPending();
+                resync();
+                redisAvailable = true;
+                log.info("token blacklist synced : {} tokens", revoked.size());
+            }
+        } catch (RuntimeException e) {
+            if (redisAvailable) {
+                log.warn("redis unavailable, token blacklist fail-{} : {}", failOpen ? "open" : "closed", e.getMessage());
+            }
+            redisAvailable = false;
+        }
+    }
+
+    private void publish(String jti, long expiresAt) {
+        stringRedisTemplate.opsForZSet().add(INDEX_KEY, jti, expiresAt);
+        stringRedisTemplate.convertAndSend(CHANNEL, jti + ":" + expiresAt);
+    }
+
+    private void publishPending() {
+        unpublished.forEach((jti, expiresAt) -> {
+            publish(jti, expiresAt);
+            unpublished.remove(jti);
+        });
+    }
+
+    /**
+     * 이전 방식으로 등록된 토큰을 jti(없으면 토큰 해시)로 blacklist:index 에 등록하고 key 삭제
+     * 여러 서버가 동시에 실행해도 같은 값을 등록하므로 문제 없음
+     */
+    private void importLegacyKeys() {
+        int imported = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_KEY_PATTERN).count(1000).build();
+        try (Cursor<String> keys = stringRedisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                String accessToken = keys.next();
+                String value = stringRedisTemplate.opsForValue().get(accessToken);
+                if (value == null || !value.contains(LEGACY_VALUE)) continue;
+
+                VerifiedTokenCache.VerifiedToken token = parse(accessToken);
+                if (token != null) {
+                    add(token.getJti(), token.getExpiresAt());
+                    publish(token.getJti(), token.getExpiresAt());
+                    imported++;
+                }
+                stringRedisTemplate.delete(accessToken);
+            }
+        }
+        if (imported > 0) {
+            log.info("legacy token blacklist keys imported : {} tokens", imported);
+        }
+    }
+
+    //만료되었거나 서명이 맞지 않는 토큰은 어차피 인증 실패 - 옮기지 않음
+    private VerifiedTokenCache.VerifiedToken parse(String accessToken) {
+        try {
+            return verifiedTokenCache.get(accessToken, jws -> jwtTokenizer.getClaims(jws).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void resync() {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, 0, now);
+        Set<ZSetOperations.TypedTuple<String>> entries = stringRedisTemplate.opsForZSet().rangeWithScores(INDEX_KEY, 0, -1);
+        if (entries == null) return;
+        entries.forEach(entry -> add(entry.getValue(), entry.getScore().longValue()));
+    }
+
+    private void add(String jti, long expiresAt) {
+        revoked.put(jti, expiresAt);
+    }
+}
@@ -0,0 +1,110 @@
+package com.newyear.mainproject.security.logout;
+
+import com.newyear.mainproject.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 토큰 버전 (access token 의 ver claim)
+ * 모든 기기 로그아웃 시 버전을 올리면 이전 버전으로 발급된 토큰은 전부 무효
+ * access token 유효 시간 안에 버전을 올린 회원만 메모리에 보관, 원본은 member.token_version
+ * 그보다 오래전에 올린 회원은 이전 버전 토큰이 모두 만료되었으므로 0 으로 취급해도 같은 결과
+ */
+@Slf4j
+@Service
+public class TokenVersionService implements MessageListener {
+    public static final String CHANNEL = "token-version";
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration retention;
+
+    private volatile Map<String, Bump> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionService(MemberRepository memberRepository, StringRedisTemplate stringRedisTemplate,
+                               @Value("${jwt.access-token-expiration-minutes}") long accessTokenExpirationMinutes) {
+        this.memberRepository = memberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.retention = Duration.ofMinutes(accessTokenExpirationMinutes);
+    }
+
+    public int getVersion(String email) {
+        Bump bump = versions.get(email);
+        return bump == null ? 0 : bump.version;
+    }
+
+    public boolean isCurrent(String email, int version) {
+        return version >= getVersion(email);
+    }
+
+    /**
+     * 모든 기기 로그아웃
+     */
+    @Transactional
+    public int increaseVersion(String email) {
+        LocalDateTime now = LocalDateTime.now();
+        memberRepository.increaseTokenVersion(email, now);
+        int version = memberRepository.findTokenVersionByEmail(email);
+        update(email, version, now);
+
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, version + ":" + email);
+        } catch (RuntimeException e) {
+            //다른 서버는 다음 동기화 때 반영
+            log.warn("token version publish failed : {}", e.getMessage());
+        }
+        return version;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(':');
+        if (index <= 0) return;
+        update(body.substring(index + 1), Integer.parseInt(body.substring(0, index)), LocalDateTime.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.token-version.sync-interval:60000}")
+    public void sync() {
+        LocalDateTime since = LocalDateTime.now().minus(retention);
+        Map<String, Bump> loaded = new ConcurrentHashMap<>();
+        memberRepository.findTokenVersions(since)
+                .forEach(view -> loaded.put(view.getEmail(), new Bump(view.getTokenVersion(), view.getTokenVersionUpdatedAt())));
+        //조회 중에 올라간 버전은 유지, 유효 시간이 지난 항목은 제거
+        versions.forEach((email, bump) -> {
+            if (bump.updatedAt.isAfter(since)) loaded.merge(email, bump, Bump::max);
+        });
+        versions = loaded;
+    }
+
+    //버전은 올라가기만 함
+    private void update(String email, int version, LocalDateTime updatedAt) {
+        versions.merge(email, new Bump(version, updatedAt), Bump::max);
+    }
+
+    @RequiredArgsConstructor
+    private static class Bump {
+        private final int version;
+        private final LocalDateTime updatedAt;
+
+        private static Bump max(Bump a, Bump b) {
+            return a.version >= b.version ? a : b;
+        }
+    }
+}
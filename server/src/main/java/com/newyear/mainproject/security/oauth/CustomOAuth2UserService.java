@@ -1,5 +1,6 @@
 package com.newyear.mainproject.security.oauth;
 
+import com.newyear.mainproject.exception.ExceptionCode;
 import com.newyear.mainproject.member.entity.Member;
 import com.newyear.mainproject.member.repository.MemberRepository;
 import com.newyear.mainproject.security.utils.CustomAuthorityUtils;
@@ -10,7 +11,7 @@ import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserServ
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,18 +36,27 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         OAuthAttributes attributes = OAuthAttributes.of(registrationId, userNameAttributeName, oauth2User.getAttributes());
 
-        if (memberRepository.findByEmail(attributes.getEmail()).isEmpty()) {
+        String provider = registrationId.toUpperCase();
+        //회원 조회는 여기서 한 번만 하고 principal 에 담아 success handler 에서 재사용
+        Member member = memberRepository.findByEmail(attributes.getEmail()).orElseGet(() -> {
             log.info("=============== 소셜 회원 신규 가입 ================");
-            saveMember(attributes.getEmail(), attributes.getName(), attributes.getPicture(), registrationId.toUpperCase());
+            return saveMember(attributes.getEmail(), attributes.getName(), attributes.getPicture(), provider);
+        });
+
+        //탈퇴 처리 중(MEMBER_QUIT), 휴면 회원은 로그인 불가 (일반 로그인 MemberDetailsService 와 동일)
+        if (member.getMemberStatus() != Member.MemberStatus.MEMBER_ACTIVE) {
+            throw new OAuth2AuthenticationException(new OAuth2Error("invalid_member_status",
+                    ExceptionCode.INVALID_MEMBER_STATUS.getMessage(), null));
         }
 
-        return new DefaultOAuth2User(Collections.singleton(new SimpleGrantedAuthority("USER")),
+        return new OAuth2MemberPrincipal(Collections.singleton(new SimpleGrantedAuthority("USER")),
                 attributes.getAttributes(),
-                attributes.getNameAttributeKey());
+                attributes.getNameAttributeKey(),
+                member, provider);
     }
 
 
-    private void saveMember(String email, String name, String profileImage, String profileKey) {
+    private Member saveMember(String email, String name, String profileImage, String profileKey) {
         List<String> roles = authorityUtils.createRoles(email);
         Member member = new Member();
         member.setEmail(email);
@@ -55,7 +65,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         member.setProfileKey(profileKey);
         member.setProfileImage(profileImage);
         member.setRoles(roles);
-        memberRepository.save(member);
+        return memberRepository.save(member);
     }
 
 }
@@ -0,0 +1,29 @@
+package com.newyear.mainproject.security.oauth;
+
+import com.newyear.mainproject.member.entity.Member;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 인증 정보 (OAuth2 principal)
+ * loadUser 에서 조회/가입한 회원 정보를 담아 success handler 에서 다시 조회하지 않음
+ */
+@Getter
+public class OAuth2MemberPrincipal extends DefaultOAuth2User {
+    private final long memberId;
+    private final String email;
+    //같은 소셜 서비스로 가입한 회원이면 true (다른 방식으로 가입한 이메일이면 토큰 발급 안 함)
+    private final boolean sameProvider;
+
+    public OAuth2MemberPrincipal(Collection<? extends GrantedAuthority> authorities, Map<String, Object> attributes,
+                                 String nameAttributeKey, Member member, String provider) {
+        super(authorities, attributes, nameAttributeKey);
+        this.memberId = member.getMemberId();
+        this.email = member.getEmail();
+        this.sameProvider = provider.equals(member.getPassword());
+    }
+}
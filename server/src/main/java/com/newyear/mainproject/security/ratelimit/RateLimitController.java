@@ -0,0 +1,24 @@
+package com.newyear.mainproject.security.ratelimit;
+
+import com.newyear.mainproject.dto.SingleResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/rate-limit")
+public class RateLimitController {
+    private final RateLimiter rateLimiter;
+
+    /**
+     * 규칙별 허용, 거부 횟수 (관리자)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity getStats() {
+        return new ResponseEntity<>(new SingleResponseDto<>(rateLimiter.stats()), HttpStatus.OK);
+    }
+}
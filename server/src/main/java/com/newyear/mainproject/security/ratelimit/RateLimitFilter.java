@@ -0,0 +1,58 @@
+package com.newyear.mainproject.security.ratelimit;
+
+import com.newyear.mainproject.security.userdetails.MemberPrincipal;
+import com.newyear.mainproject.security.utils.ErrorResponder;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 요청 제한 필터 - 규칙은 SecurityConfiguration 에서 등록
+ * 제한에 걸리면 429 + Retry-After(초)
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter rateLimiter;
+    private final List<RateLimitRule> rules;
+
+    public RateLimitFilter(RateLimiter rateLimiter, List<RateLimitRule> rules) {
+        this.rateLimiter = rateLimiter;
+        this.rules = List.copyOf(rules);
+        rateLimiter.register(this.rules);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        for (RateLimitRule rule : rules) {
+            if (!rule.matches(request)) continue;
+
+            long waitMillis = rateLimiter.tryAcquire(rule, key(rule, request));
+            if (waitMillis > 0) {
+                response.setHeader("Retry-After", String.valueOf((waitMillis + 999) / 1000));
+                ErrorResponder.sendErrorResponse(response, HttpStatus.TOO_MANY_REQUESTS);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    //프록시 뒤에서는 server.forward-headers-strategy 설정으로 remoteAddr 가 실제 클라이언트 IP
+    private String key(RateLimitRule rule, HttpServletRequest request) {
+        if (rule.getKeyType() == RateLimitRule.KeyType.MEMBER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof MemberPrincipal) {
+                MemberPrincipal principal = (MemberPrincipal) authentication.getPrincipal();
+                return "member:" + (principal.getMemberId() != null ? principal.getMemberId() : principal.getEmail());
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
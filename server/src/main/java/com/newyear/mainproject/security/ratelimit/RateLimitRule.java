@@ -0,0 +1,56 @@
+package com.newyear.mainproject.security.ratelimit;
+
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 제한 규칙 (route pattern 별 period 당 capacity 회)
+ * IP : 비회원 요청 (로그인, 이메일 인증) / MEMBER : 로그인 회원 요청 (비회원이면 IP)
+ */
+@Getter
+public class RateLimitRule {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    public enum KeyType { IP, MEMBER }
+
+    private final String name;
+    private final Set<HttpMethod> methods;
+    private final String pattern;
+    private final KeyType keyType;
+    private final long capacity;
+    private final Duration period;
+
+    private final AtomicLong allowedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private RateLimitRule(String name, String pattern, KeyType keyType, long capacity, Duration period, HttpMethod... methods) {
+        this.name = name;
+        this.methods = methods.length == 0 ? Set.of() : EnumSet.copyOf(Arrays.asList(methods));
+        this.pattern = pattern;
+        this.keyType = keyType;
+        this.capacity = capacity;
+        this.period = period;
+    }
+
+    public static RateLimitRule perIp(String name, String pattern, long capacity, Duration period, HttpMethod... methods) {
+        return new RateLimitRule(name, pattern, KeyType.IP, capacity, period, methods);
+    }
+
+    public static RateLimitRule perMember(String name, String pattern, long capacity, Duration period, HttpMethod... methods) {
+        return new RateLimitRule(name, pattern, KeyType.MEMBER, capacity, period, methods);
+    }
+
+    //methods 가 비어 있으면 모든 method
+    public boolean matches(HttpServletRequest request) {
+        return (methods.isEmpty() || methods.contains(HttpMethod.resolve(request.getMethod())))
+                && PATH_MATCHER.match(pattern, request.getServletPath());
+    }
+}
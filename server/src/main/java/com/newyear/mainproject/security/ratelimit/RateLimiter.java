@@ -0,0 +1,134 @@
+package com.newyear.mainproject.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 제한
+ * 서버별 token bucket 으로 먼저 확인하고, rate-limit.redis.enabled 면 redis sliding window 로 전체 서버 기준도 확인
+ * redis 오류 시에는 서버별 제한만 적용
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    //window 안의 요청 수가 limit 이상이면 가장 오래된 요청이 빠질 때까지 남은 시간(ms), 아니면 추가하고 0
+    private static final RedisScript<Long> SLIDING_WINDOW = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, tonumber(ARGV[1]) - tonumber(ARGV[2])) " +
+            "if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[3]) then " +
+            "  redis.call('ZADD', KEYS[1], ARGV[1], ARGV[4]) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "  return 0 " +
+            "end " +
+            "local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') " +
+            "return tonumber(oldest[2]) + tonumber(ARGV[2]) - tonumber(ARGV[1])",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean enabled;
+    private final boolean redisEnabled;
+    //오래 쓰지 않은 bucket 은 제거
+    private final Cache<String, TokenBucket> buckets;
+    private final List<RateLimitRule> rules = new CopyOnWriteArrayList<>();
+    private final MeterRegistry meterRegistry;
+
+    public RateLimiter(StringRedisTemplate stringRedisTemplate,
+                       @Value("${rate-limit.enabled:true}") boolean enabled,
+                       @Value("${rate-limit.redis.enabled:false}") boolean redisEnabled,
+                       @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+                       MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.enabled = enabled;
+        this.redisEnabled = redisEnabled;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(maxBuckets)
+                .recordStats()
+                .build();
+        this.meterRegistry = meterRegistry;
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+    }
+
+    //규칙별 허용, 거부 횟수는 rate.limit.requests (rule, result 태그)
+    public void register(List<RateLimitRule> newRules) {
+        rules.addAll(newRules);
+        for (RateLimitRule rule : newRules) {
+            FunctionCounter.builder("rate.limit.requests", rule, r -> r.getAllowedCount().get())
+                    .tags("rule", rule.getName(), "result", "allowed")
+                    .register(meterRegistry);
+            FunctionCounter.builder("rate.limit.requests", rule, r -> r.getRejectedCount().get())
+                    .tags("rule", rule.getName(), "result", "rejected")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return 0 이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public long tryAcquire(RateLimitRule rule, String key) {
+        //부하 테스트 등에서 제한 해제
+        if (!enabled) {
+            rule.getAllowedCount().incrementAndGet();
+            return 0;
+        }
+        String bucketKey = rule.getName() + ":" + key;
+        TokenBucket bucket = buckets.get(bucketKey, k -> new TokenBucket(rule.getCapacity(), rule.getPeriod().toNanos()));
+
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(bucket.tryConsume());
+        if (waitMillis == 0 && redisEnabled) {
+            waitMillis = tryAcquireGlobal(rule, bucketKey);
+        }
+
+        if (waitMillis > 0) {
+            rule.getRejectedCount().incrementAndGet();
+        } else {
+            rule.getAllowedCount().incrementAndGet();
+        }
+        return waitMillis;
+    }
+
+    public List<Map<String, Object>> stats() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (RateLimitRule rule : rules) {
+            Map<String, Object> stat = new LinkedHashMap<>();
+            stat.put("name", rule.getName());
+            stat.put("methods", rule.getMethods().isEmpty() ? Set.of("*") : rule.getMethods());
+            stat.put("pattern", rule.getPattern());
+            stat.put("keyType", rule.getKeyType());
+            stat.put("capacity", rule.getCapacity());
+            stat.put("periodSeconds", rule.getPeriod().getSeconds());
+            stat.put("allowed", rule.getAllowedCount().get());
+            stat.put("rejected", rule.getRejectedCount().get());
+            result.add(stat);
+        }
+        return result;
+    }
+
+    private long tryAcquireGlobal(RateLimitRule rule, String bucketKey) {
+        try {
+            long now = System.currentTimeMillis();
+            Long waitMillis = stringRedisTemplate.execute(SLIDING_WINDOW,
+                    List.of("rate:" + bucketKey),
+                    String.valueOf(now), String.valueOf(rule.getPeriod().toMillis()), String.valueOf(rule.getCapacity()),
+                    now + "-" + UUID.randomUUID());
+            return waitMillis == null ? 0 : Math.max(0, waitMillis);
+        } catch (RuntimeException e) {
+            log.warn("rate limit redis failed, local limit only : {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.newyear.mainproject.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * lock-free token bucket (CAS)
+ * capacity 만큼 쌓이고 period 동안 capacity 개가 다시 채워짐
+ */
+class TokenBucket {
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(long capacity, long periodNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / periodNanos;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 0 이면 허용, 아니면 다음 토큰까지 남은 시간(ns)
+     */
+    long tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(capacity, current.tokens + (now - current.refilledAt) * tokensPerNano);
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return 0;
+            }
+        }
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long refilledAt;
+
+        State(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.newyear.mainproject.security.refresh;
 
+import com.newyear.mainproject.dto.SingleResponseDto;
 import com.newyear.mainproject.exception.BusinessLogicException;
 import com.newyear.mainproject.exception.ExceptionCode;
+import com.newyear.mainproject.member.entity.Member;
+import com.newyear.mainproject.member.repository.MemberRepository;
 import com.newyear.mainproject.security.jwt.JwtTokenizer;
+import com.newyear.mainproject.security.jwt.VerifiedTokenCache;
 import com.newyear.mainproject.security.logout.RedisUtil;
 import com.newyear.mainproject.security.utils.CustomAuthorityUtils;
 import io.jsonwebtoken.Claims;
@@ -14,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -35,21 +40,21 @@ public class TokenController {
     private final JwtTokenizer jwtTokenizer;
     private final CustomAuthorityUtils authorityUtils;
     private final RedisUtil redisUtils;
+    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @PostMapping("/reissue")
     public ResponseEntity reissueToken(@RequestHeader("Refresh") @NotBlank String refreshToken,
                                        HttpServletResponse response) {
 
-        String encodeBase64SecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
         try {
-            jwtTokenizer.verifySignature(refreshToken, encodeBase64SecretKey);
+            jwtTokenizer.verifySignature(refreshToken);
         } catch (SignatureException | MalformedJwtException | DecodingException e) {
             throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
         }
 
         //토큰 유효성 검증
-        Jws<Claims> claims = jwtTokenizer.getClaims(refreshToken, encodeBase64SecretKey);
+        Jws<Claims> claims = jwtTokenizer.getClaims(refreshToken);
 
         Map<String, Object> map = new HashMap<>();
         String email = claims.getBody().getSubject();
@@ -59,16 +64,28 @@ public class TokenController {
             throw new BusinessLogicException(ExceptionCode.INVALID_REFRESH_TOKEN);
         }
 
+        Member member = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+
         List<String> roles = authorityUtils.createRoles(email);
+        map.put("memberId", member.getMemberId());
         map.put("username", email);
         map.put("roles", roles);
 
         //토큰 재발급
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
-        String newAccessToken = jwtTokenizer.generateAccessToken(map, email, expiration, encodeBase64SecretKey);
+        String newAccessToken = jwtTokenizer.generateAccessToken(map, email, expiration);
         response.setHeader("Authorization", "Bearer " + newAccessToken);
 
         return new ResponseEntity<>(HttpStatus.OK);
 
     }
-}
\ No newline at end of file
+
+    /**
+     * 검증 토큰 캐시 적중률, 크기 (관리자)
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity getVerifiedTokenCacheStats() {
+        return new ResponseEntity<>(new SingleResponseDto<>(verifiedTokenCache.stats()), HttpStatus.OK);
+    }
+}
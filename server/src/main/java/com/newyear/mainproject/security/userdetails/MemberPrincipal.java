@@ -0,0 +1,34 @@
+package com.newyear.mainproject.security.userdetails;
+
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * JWT claims 로 만든 인증 정보 (SecurityContext principal)
+ * memberId 가 있으면 로그인 회원 확인 시 DB 조회 없이 id 비교
+ */
+@Getter
+public class MemberPrincipal implements Principal {
+    //memberId claim 없이 발급된 토큰은 null
+    private final Long memberId;
+    private final String email;
+    private final List<String> roles;
+
+    public MemberPrincipal(Long memberId, String email, List<String> roles) {
+        this.memberId = memberId;
+        this.email = email;
+        this.roles = roles;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
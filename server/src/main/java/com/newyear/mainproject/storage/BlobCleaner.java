@@ -0,0 +1,54 @@
+package com.newyear.mainproject.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 교체된 파일 삭제 - 요청 스레드에서 기다리지 않도록 별도 스레드에서 처리
+ * 삭제 실패는 로그만 남김 (남은 파일은 참조되지 않아 서비스에는 영향 없음)
+ */
+@Slf4j
+@Component
+public class BlobCleaner {
+
+    private final BlobStore blobStore;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "blob-cleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BlobCleaner(BlobStore blobStore) {
+        this.blobStore = blobStore;
+    }
+
+    public void deleteLater(String key) {
+        execute(key, () -> blobStore.delete(key));
+    }
+
+    //확인에 실패한 직접 업로드 임시 파일
+    public void deleteUploadLater(String key) {
+        execute(key, () -> blobStore.deleteUpload(key));
+    }
+
+    private void execute(String key, Runnable delete) {
+        executor.execute(() -> {
+            try {
+                delete.run();
+            } catch (RuntimeException e) {
+                log.warn("blob delete failed : {}, {}", key, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,39 @@
+package com.newyear.mainproject.storage;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+/**
+ * 파일 저장소 (storage.type=s3 : S3, local : 서버 파일시스템)
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림을 그대로 저장 (contentLength 를 알고 있어야 메모리에 모으지 않고 전송)
+     * @return 저장된 파일의 공개 URL
+     */
+    String put(String key, InputStream inputStream, long contentLength, String contentType);
+
+    /**
+     * 클라이언트가 직접 올릴 수 있는 서명된 PUT URL (서버를 거치지 않음)
+     * 공개되지 않는 임시 위치에 저장, 확인 후 publishUpload 로 공개
+     */
+    PresignedUpload createUploadUrl(String key, String contentType, long contentLength, Duration ttl);
+
+    /**
+     * 직접 업로드된 임시 파일 읽기 - 없으면 BusinessLogicException(FILE_NOT_FOUND)
+     */
+    InputStream openUpload(String key);
+
+    /**
+     * 확인이 끝난 임시 파일을 같은 key 의 공개 위치로 옮김
+     * @return 공개 URL
+     */
+    String publishUpload(String key);
+
+    void deleteUpload(String key);
+
+    void delete(String key);
+
+    String getUrl(String key);
+}
@@ -0,0 +1,211 @@
+package com.newyear.mainproject.storage;
+
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 서버 파일시스템 저장소 (테스트, 자체 서버 배포용)
+ * storage.local.root 아래에 저장하고 storage.local.base-url 로 제공
+ * 직접 업로드, 복사 중인 임시 파일은 제공하지 않는 옆 디렉토리(root-staging)에 저장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore, WebMvcConfigurer {
+
+    private final Path root;
+    private final Path staging;
+    private final String baseUrl;
+    private final byte[] signingSecret;
+
+    public LocalBlobStore(@Value("${storage.local.root:./uploads}") String root,
+                          @Value("${storage.local.base-url:/files}") String baseUrl,
+                          @Value("${storage.local.signing-secret:}") String signingSecret) throws IOException {
+        this.root = Files.createDirectories(Paths.get(root)).toAbsolutePath().normalize();
+        //같은 파일시스템이어야 임시 파일을 원자적으로 이동 가능
+        this.staging = Files.createDirectories(this.root.resolveSibling(this.root.getFileName() + "-staging"));
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        //미설정 시 서버 시작마다 새 키 (서버가 여러 대면 같은 값으로 설정)
+        if (signingSecret.isBlank()) {
+            byte[] random = new byte[32];
+            new SecureRandom().nextBytes(random);
+            this.signingSecret = random;
+        } else {
+            this.signingSecret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, long contentLength, String contentType) {
+        write(resolve(root, key), inputStream, contentLength, key);
+        return getUrl(key);
+    }
+
+    //LocalUploadController 의 직접 업로드 - 확인 전까지 staging 에 둠
+    public void putUpload(String key, InputStream inputStream, long contentLength) {
+        write(resolve(staging, key), inputStream, contentLength, key);
+    }
+
+    //staging 에서 임시 파일에 채널로 복사한 뒤 이동 (복사 중인 파일은 보이지 않음)
+    private void write(Path target, InputStream inputStream, long contentLength, String key) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(staging, ".upload-", ".tmp");
+            try (ReadableByteChannel source = Channels.newChannel(inputStream);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long position = 0;
+                while (position < contentLength) {
+                    long transferred = channel.transferFrom(source, position, contentLength - position);
+                    if (transferred <= 0) break;
+                    position += transferred;
+                }
+                if (position != contentLength) {
+                    throw new IOException("unexpected end of stream : " + position + "/" + contentLength);
+                }
+                channel.force(false);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("local upload failed : {}", key, e);
+            deleteQuietly(temp);
+            throw new BusinessLogicException(ExceptionCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    //S3 presigned URL 대신 LocalUploadController 로 올리는 서명 URL
+    @Override
+    public PresignedUpload createUploadUrl(String key, String contentType, long contentLength, Duration ttl) {
+        resolve(staging, key);
+        long expires = Instant.now().plus(ttl).getEpochSecond();
+        String url = baseUrl + "/upload"
+                + "?key=" + encode(key)
+                + "&contentType=" + encode(contentType)
+                + "&contentLength=" + contentLength
+                + "&expires=" + expires
+                + "&signature=" + sign(key, contentType, contentLength, expires);
+        return new PresignedUpload(key, url, Map.of(HttpHeaders.CONTENT_TYPE, contentType), Instant.ofEpochSecond(expires));
+    }
+
+    //서명, 만료 시간 확인
+    public boolean verifyUploadUrl(String key, String contentType, long contentLength, long expires, String signature) {
+        if (Instant.now().getEpochSecond() > expires) return false;
+        byte[] expected = sign(key, contentType, contentLength, expires).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public InputStream openUpload(String key) {
+        try {
+            return Files.newInputStream(resolve(staging, key));
+        } catch (NoSuchFileException e) {
+            throw new BusinessLogicException(ExceptionCode.FILE_NOT_FOUND);
+        } catch (IOException e) {
+            throw new IllegalStateException("local read failed : " + key, e);
+        }
+    }
+
+    @Override
+    public String publishUpload(String key) {
+        Path target = resolve(root, key);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(resolve(staging, key), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            throw new BusinessLogicException(ExceptionCode.FILE_NOT_FOUND);
+        } catch (IOException e) {
+            log.error("local publish failed : {}", key, e);
+            throw new BusinessLogicException(ExceptionCode.FILE_UPLOAD_FAILED);
+        }
+        return getUrl(key);
+    }
+
+    @Override
+    public void deleteUpload(String key) {
+        delete(staging, key);
+    }
+
+    @Override
+    public void delete(String key) {
+        delete(root, key);
+    }
+
+    private void delete(Path directory, String key) {
+        try {
+            Files.deleteIfExists(resolve(directory, key));
+        } catch (IOException e) {
+            throw new IllegalStateException("local delete failed : " + key, e);
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + "/" + encode(key);
+    }
+
+    //저장된 파일 제공
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(baseUrl + "/**")
+                .addResourceLocations(root.toUri().toString());
+    }
+
+    //디렉토리 밖의 경로(../) 는 거부
+    private Path resolve(Path directory, String key) {
+        Path path = directory.resolve(key).normalize();
+        if (!path.startsWith(directory) || path.equals(directory)) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
+        }
+        return path;
+    }
+
+    private String sign(String key, String contentType, long contentLength, long expires) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(signingSecret, "HmacSHA256"));
+            byte[] signature = mac.doFinal((key + "\n" + contentType + "\n" + contentLength + "\n" + expires)
+                    .getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("temp file delete failed : {}", path);
+        }
+    }
+}
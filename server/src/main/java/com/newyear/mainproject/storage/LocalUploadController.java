@@ -0,0 +1,48 @@
+package com.newyear.mainproject.storage;
+
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * local 저장소의 presigned PUT 처리 (S3 직접 업로드 대체, 테스트/자체 서버용)
+ * 로그인 대신 LocalBlobStore 서명으로 확인
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalUploadController {
+
+    private final LocalBlobStore localBlobStore;
+
+    @PutMapping("${storage.local.base-url:/files}/upload")
+    public ResponseEntity upload(@RequestParam String key,
+                                 @RequestParam String contentType,
+                                 @RequestParam long contentLength,
+                                 @RequestParam long expires,
+                                 @RequestParam String signature,
+                                 HttpServletRequest request) throws IOException {
+        if (!localBlobStore.verifyUploadUrl(key, contentType, contentLength, expires, signature)) {
+            throw new BusinessLogicException(ExceptionCode.ACCESS_FORBIDDEN);
+        }
+        //서명한 형식, 크기와 다르면 거부
+        if (!contentType.equals(request.getContentType()) || request.getContentLengthLong() != contentLength) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_VALUES);
+        }
+
+        try (InputStream inputStream = request.getInputStream()) {
+            localBlobStore.putUpload(key, inputStream, contentLength);
+        }
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+}
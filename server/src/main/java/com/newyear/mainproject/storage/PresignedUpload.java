@@ -0,0 +1,20 @@
+package com.newyear.mainproject.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 저장소에 직접 올릴 PUT URL
+ * headers 는 업로드 요청에 그대로 넣어야 함 (서명에 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class PresignedUpload {
+    private final String key;
+    private final String url;
+    private final Map<String, String> headers;
+    private final Instant expiresAt;
+}
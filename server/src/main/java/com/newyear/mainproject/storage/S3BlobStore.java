@@ -0,0 +1,149 @@
+package com.newyear.mainproject.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.model.lifecycle.LifecyclePrefixPredicate;
+import com.newyear.mainproject.exception.BusinessLogicException;
+import com.newyear.mainproject.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * S3 저장소
+ * 직접 업로드는 storage.s3.upload-prefix 아래 비공개로 받고, 크기 확인 후 공개 key 로 복사
+ * presigned PUT 은 크기를 제한할 수 없으므로 큰 파일은 공개되지 않고 bucket lifecycle 규칙으로 만료
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final String uploadPrefix;
+
+    public S3BlobStore(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucket,
+                       @Value("${storage.s3.upload-prefix:uploads/}") String uploadPrefix) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.uploadPrefix = uploadPrefix.endsWith("/") ? uploadPrefix : uploadPrefix + "/";
+    }
+
+    //임시 위치 만료 규칙이 없으면 확인하지 않은 업로드가 계속 쌓임
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkUploadExpiration() {
+        try {
+            BucketLifecycleConfiguration configuration = amazonS3.getBucketLifecycleConfiguration(bucket);
+            boolean expires = configuration != null && configuration.getRules().stream()
+                    .anyMatch(rule -> BucketLifecycleConfiguration.ENABLED.equals(rule.getStatus())
+                            && rule.getExpirationInDays() > 0
+                            && prefix(rule) != null
+                            && uploadPrefix.startsWith(prefix(rule)));
+            if (!expires) {
+                log.warn("no s3 lifecycle expiration rule for {}/{}", bucket, uploadPrefix);
+            }
+        } catch (SdkClientException e) {
+            log.warn("s3 lifecycle check failed : {}", e.getMessage());
+        }
+    }
+
+    //prefix 조건이 아닌 규칙(tag 등)은 null
+    private static String prefix(BucketLifecycleConfiguration.Rule rule) {
+        if (rule.getFilter() == null) return legacyPrefix(rule);
+        if (!(rule.getFilter().getPredicate() instanceof LifecyclePrefixPredicate)) return null;
+        return ((LifecyclePrefixPredicate) rule.getFilter().getPredicate()).getPrefix();
+    }
+
+    //filter 도입 전에 만든 규칙은 rule 의 prefix 에만 값이 있음
+    @SuppressWarnings("deprecation")
+    private static String legacyPrefix(BucketLifecycleConfiguration.Rule rule) {
+        return rule.getPrefix();
+    }
+
+    @Override
+    public String put(String key, InputStream inputStream, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType); //content type 지정 (미지정시 자동 다운됨)
+        metadata.setContentLength(contentLength);
+
+        try {
+            amazonS3.putObject(new PutObjectRequest(bucket, key, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        } catch (SdkClientException e) {
+            log.error("s3 upload failed : {}", key, e);
+            throw new BusinessLogicException(ExceptionCode.FILE_UPLOAD_FAILED);
+        }
+        return getUrl(key);
+    }
+
+    //acl 없이(비공개) 임시 위치에 저장
+    @Override
+    public PresignedUpload createUploadUrl(String key, String contentType, long contentLength, Duration ttl) {
+        Instant expiresAt = Instant.now().plus(ttl);
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, uploadPrefix + key, HttpMethod.PUT)
+                .withExpiration(Date.from(expiresAt))
+                .withContentType(contentType);
+
+        URL url = amazonS3.generatePresignedUrl(request);
+        return new PresignedUpload(key, url.toString(), Map.of(Headers.CONTENT_TYPE, contentType), expiresAt);
+    }
+
+    @Override
+    public InputStream openUpload(String key) {
+        try {
+            return amazonS3.getObject(bucket, uploadPrefix + key).getObjectContent();
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) throw new BusinessLogicException(ExceptionCode.FILE_NOT_FOUND);
+            throw e;
+        }
+    }
+
+    //content type 등 metadata 는 그대로 복사
+    @Override
+    public String publishUpload(String key) {
+        try {
+            amazonS3.copyObject(new CopyObjectRequest(bucket, uploadPrefix + key, bucket, key)
+                    .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+        } catch (SdkClientException e) {
+            log.error("s3 publish failed : {}", key, e);
+            throw new BusinessLogicException(ExceptionCode.FILE_UPLOAD_FAILED);
+        }
+        deleteUpload(key);
+        return getUrl(key);
+    }
+
+    //삭제 실패해도 lifecycle 규칙으로 만료
+    @Override
+    public void deleteUpload(String key) {
+        try {
+            amazonS3.deleteObject(bucket, uploadPrefix + key);
+        } catch (SdkClientException e) {
+            log.warn("s3 upload delete failed : {}, {}", key, e.getMessage());
+        }
+    }
+
+    //없는 key 삭제도 성공 처리 (S3 동작)
+    @Override
+    public void delete(String key) {
+        amazonS3.deleteObject(bucket, key);
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+}
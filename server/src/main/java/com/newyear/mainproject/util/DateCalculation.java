@@ -1,11 +1,14 @@
 package com.newyear.mainproject.util;
 
+import lombok.extern.slf4j.Slf4j;
+
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 
+@Slf4j
 public class DateCalculation {
 
     public static List<String> dateCal(String start, String end) {
@@ -35,7 +38,7 @@ public class DateCalculation {
             }
 
         }catch (Exception e) {
-            System.out.println("Error : " + e.getMessage());
+            log.warn("date calculation failed : start={}, end={}, {}", start, end, e.getMessage());
         }
         return resultDate;
     }
@@ -0,0 +1,19 @@
+-- 회원별 지출 집계 (ExpenseRollup) - ddl-auto=none 이므로 배포 전 실행
+create table expense_rollup (
+    rollup_id     bigint       not null auto_increment,
+    member_id     bigint       not null,
+    city_name     varchar(255) not null,
+    category      varchar(255) not null,
+    spend_date    date         not null,
+    total_price   bigint       not null default 0,
+    expense_count bigint       not null default 0,
+    primary key (rollup_id),
+    constraint uk_expense_rollup unique (member_id, city_name, category, spend_date),
+    index idx_expense_rollup_member (member_id)
+) engine = InnoDB;
+
+-- 기존 지출 집계 (expense.rollup.rebuild-cron 으로도 가능)
+insert into expense_rollup (member_id, city_name, category, spend_date, total_price, expense_count)
+select p.member_id, p.city_name, e.category, cast(e.created_at as date), sum(e.price), count(*)
+from expenses e join budget b on e.budget_id = b.budget_id join plan p on b.plan_id = p.plan_id
+group by p.member_id, p.city_name, e.category, cast(e.created_at as date);
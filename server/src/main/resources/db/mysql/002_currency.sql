@@ -0,0 +1,8 @@
+-- 지출, 예산 통화 코드 (ISO 4217, 기존 행은 KRW) - ddl-auto=none 이므로 배포 전 실행
+alter table expenses add column currency varchar(3) not null default 'KRW';
+alter table budget add column currency varchar(3) not null default 'KRW';
+
+-- 지출 집계를 통화별로 분리
+alter table expense_rollup add column currency varchar(3) not null default 'KRW';
+alter table expense_rollup drop index uk_expense_rollup,
+    add constraint uk_expense_rollup unique (member_id, city_name, category, spend_date, currency);
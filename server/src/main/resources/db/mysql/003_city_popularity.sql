@@ -0,0 +1,8 @@
+-- 도시별 일정/게시물 수 (CityPopularity) - ddl-auto=none 이므로 배포 전 실행
+-- 비어 있으면 서버 시작 시 plan, board 에서 한 번 집계
+create table city_popularity (
+    city_id     bigint not null,
+    plan_count  bigint not null default 0,
+    board_count bigint not null default 0,
+    primary key (city_id)
+) engine = InnoDB;
@@ -0,0 +1,6 @@
+-- 회원별 토큰 버전 (모든 기기 로그아웃) - ddl-auto=none 이므로 배포 전 실행
+-- TokenVersionService 는 access token 유효 시간 안에 버전을 올린 회원만 조회
+alter table member
+    add column token_version int not null default 0,
+    add column token_version_updated_at datetime(6) null,
+    add index idx_member_token_version_updated_at (token_version_updated_at);
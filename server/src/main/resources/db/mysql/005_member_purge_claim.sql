@@ -0,0 +1,5 @@
+-- 탈퇴 데이터 삭제 claim - ddl-auto=none 이므로 배포 전 실행
+-- MemberPurgeService 는 이 값이 있는 MEMBER_QUIT 회원만 재시작 후 이어서 삭제 (기존 탈퇴 회원은 null 로 남아 대상 아님)
+alter table member
+    add column purge_claimed_at datetime(6) null,
+    add index idx_member_purge_claimed_at (purge_claimed_at);
@@ -0,0 +1,81 @@
+package com.newyear.mainproject.board.controller;
+
+import com.newyear.mainproject.support.IntegrationTest;
+import com.newyear.mainproject.support.MaxQueries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 게시물 상세 조회 SQL 수 - 좋아요, 장소가 늘어도 budget 안에서 처리되는지 확인
+ * 데이터는 JDBC 로 직접 입력 (다른 테스트와 겹치지 않도록 9000 번대 id)
+ */
+class BoardControllerTest extends IntegrationTest {
+    private static final long BOARD_ID = 9001;
+    private static final long PLAN_ID = 9001;
+    private static final long AUTHOR_ID = 9001;
+    private static final int LIKES = 2;
+    private static final int PLACES = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Integer boards = jdbcTemplate.queryForObject("select count(*) from board where board_id = ?", Integer.class, BOARD_ID);
+        if (boards != null && boards > 0) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (long memberId = AUTHOR_ID; memberId <= AUTHOR_ID + LIKES; memberId++) {
+            jdbcTemplate.update("insert into member (member_id, email, display_name, password, profile_image, profile_key, " +
+                            "created_at, token_version, member_status) values (?, ?, ?, 'password', ?, 'BASIC', ?, 0, 'MEMBER_ACTIVE')",
+                    memberId, "board" + memberId + "@test.com", "member" + memberId, "https://test.com/" + memberId + ".png", now);
+            jdbcTemplate.update("insert into member_roles (member_member_id, roles) values (?, 'USER')", memberId);
+        }
+
+        Long cityId = jdbcTemplate.queryForObject("select min(id) from city", Long.class);
+        String cityName = jdbcTemplate.queryForObject("select city_name from city where id = ?", String.class, cityId);
+        jdbcTemplate.update("insert into plan (plan_id, plan_title, city_name, start_date, end_date, board_check, member_id, city_id) " +
+                "values (?, 'trip', ?, '2023-01-01', '2023-01-01', true, ?, ?)", PLAN_ID, cityName, AUTHOR_ID, cityId);
+        jdbcTemplate.update("insert into plan_dates (plan_date_id, plan_date, sub_title, plan_id) values (?, '2023-01-01', 'Day 1', ?)",
+                PLAN_ID, PLAN_ID);
+        for (long placeId = 9001; placeId < 9001 + PLACES; placeId++) {
+            jdbcTemplate.update("insert into place (place_id, place_name, start_time, end_time, description, latitude, longitude, " +
+                            "place_address, ratings, website, phone, opening_hours, plan_date_id, plan_id) " +
+                            "values (?, ?, '10:00', '12:00', 'description', 37.5, 127.0, 'address', 4.5, 'https://place.test.com', " +
+                            "'02-000-0000', '09:00 - 18:00', ?, ?)",
+                    placeId, "place " + placeId, PLAN_ID, PLAN_ID);
+        }
+
+        jdbcTemplate.update("insert into board (board_id, title, content, views, member_id, plan_id, created_at, last_modified_at) " +
+                "values (?, 'title', 'content', 0, ?, ?, ?, ?)", BOARD_ID, AUTHOR_ID, PLAN_ID, now, now);
+        for (int i = 1; i <= LIKES; i++) {
+            jdbcTemplate.update("insert into likes (likes_id, member_id, board_id) values (?, ?, ?)",
+                    9000 + i, AUTHOR_ID + i, BOARD_ID);
+        }
+    }
+
+    //측정값 : 게시물(작성자, 일정, 도시) 1 + 비회원 확인 1 + 조회수 증가 1 + 날짜 1 + 장소 1 + 좋아요 1
+    //+ 좋아요 회원의 roles 회원마다 1 (LIKES=2) = 8
+    @Test
+    @MaxQueries(8)
+    void getOneBoard() throws Exception {
+        mockMvc.perform(get("/board/{board-id}", BOARD_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.boardId").value(BOARD_ID))
+                .andExpect(jsonPath("$.likes").value(LIKES))
+                .andExpect(jsonPath("$.days[0].placeDetails.length()").value(PLACES));
+    }
+}
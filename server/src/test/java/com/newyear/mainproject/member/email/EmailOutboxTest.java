@@ -0,0 +1,110 @@
+package com.newyear.mainproject.member.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.internet.MimeMessage;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * GreenMail(내장 SMTP)로 실제 발송, 실패는 JavaMailSender spy 로 주입
+ */
+class EmailOutboxTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private JavaMailSenderImpl javaMailSender;
+    private EmailOutbox emailOutbox;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost(greenMail.getSmtp().getBindTo());
+        sender.setPort(greenMail.getSmtp().getPort());
+        javaMailSender = spy(sender);
+        //재시도 간격을 짧게 (10ms, 최대 50ms)
+        emailOutbox = new EmailOutbox(javaMailSender, 1, 10, 3, 10, 50);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        emailOutbox.shutdown();
+    }
+
+    @Test
+    void sendsOnce() throws Exception {
+        emailOutbox.enqueue(message());
+
+        assertThat(greenMail.waitForIncomingEmail(TIMEOUT_MILLIS, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo("인증 번호");
+        assertThat(GreenMailUtil.getBody(received)).contains("123456");
+
+        awaitStat("sent", 1);
+        assertThat(emailOutbox.stats()).containsEntry("retried", 0L).containsEntry("failed", 0L);
+        verify(javaMailSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    void retriesOnceAfterTransientFailure() {
+        doThrow(new MailSendException("connection reset"))
+                .doCallRealMethod()
+                .when(javaMailSender).send(any(MimeMessage.class));
+
+        emailOutbox.enqueue(message());
+
+        assertThat(greenMail.waitForIncomingEmail(TIMEOUT_MILLIS, 1)).isTrue();
+        awaitStat("sent", 1);
+        assertThat(emailOutbox.stats()).containsEntry("retried", 1L).containsEntry("failed", 0L);
+        verify(javaMailSender, times(2)).send(any(MimeMessage.class));
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void doesNotRetryAuthenticationFailure() {
+        doThrow(new MailAuthenticationException("535 authentication failed"))
+                .when(javaMailSender).send(any(MimeMessage.class));
+
+        emailOutbox.enqueue(message());
+
+        awaitStat("failed", 1);
+        assertThat(emailOutbox.stats()).containsEntry("retried", 0L).containsEntry("pending", 0);
+        verify(javaMailSender, times(1)).send(any(MimeMessage.class));
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private EmailMessage message() {
+        return new EmailMessage("noreply@test.com", "member@test.com", "인증 번호", "<p>123456</p>");
+    }
+
+    private void awaitStat(String name, long expected) {
+        await(() -> ((Number) emailOutbox.stats().get(name)).longValue() >= expected);
+        assertThat(((Number) emailOutbox.stats().get(name)).longValue()).isEqualTo(expected);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
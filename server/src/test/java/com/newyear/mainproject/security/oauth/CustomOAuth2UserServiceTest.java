@@ -0,0 +1,107 @@
+package com.newyear.mainproject.security.oauth;
+
+import com.newyear.mainproject.member.entity.Member;
+import com.newyear.mainproject.member.repository.MemberRepository;
+import com.newyear.mainproject.support.IntegrationTest;
+import com.newyear.mainproject.support.MaxQueries;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소셜 로그인 회원 조회 - 이미 가입한 회원은 SQL 1번 (회원 + roles)
+ * 소셜 서비스의 사용자 정보 API 는 내장 HTTP 서버로 대체
+ */
+class CustomOAuth2UserServiceTest extends IntegrationTest {
+    private static final String EMAIL = "social@test.com";
+
+    private static HttpServer userInfoServer;
+
+    @Autowired
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private long memberId;
+
+    @BeforeAll
+    static void startUserInfoServer() throws IOException {
+        userInfoServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        userInfoServer.createContext("/userinfo", exchange -> {
+            byte[] body = ("{\"sub\":\"1234\",\"name\":\"social\",\"email\":\"" + EMAIL + "\","
+                    + "\"picture\":\"https://test.com/picture.png\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        userInfoServer.start();
+    }
+
+    @AfterAll
+    static void stopUserInfoServer() {
+        userInfoServer.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.findByEmail(EMAIL).orElseGet(() -> {
+            Member member = new Member();
+            member.setEmail(EMAIL);
+            member.setDisplayName("social");
+            member.setPassword("GOOGLE");
+            member.setProfileKey("GOOGLE");
+            member.setProfileImage("https://test.com/picture.png");
+            member.setRoles(List.of("USER"));
+            return memberRepository.save(member);
+        }).getMemberId();
+    }
+
+    @Test
+    @MaxQueries(1)
+    void loadsExistingMemberWithOneQuery() {
+        OAuth2User user = customOAuth2UserService.loadUser(userRequest());
+
+        assertThat(user).isInstanceOf(OAuth2MemberPrincipal.class);
+        OAuth2MemberPrincipal principal = (OAuth2MemberPrincipal) user;
+        assertThat(principal.getMemberId()).isEqualTo(memberId);
+        assertThat(principal.getEmail()).isEqualTo(EMAIL);
+        assertThat(principal.isSameProvider()).isTrue();
+    }
+
+    private OAuth2UserRequest userRequest() {
+        String baseUrl = "http://127.0.0.1:" + userInfoServer.getAddress().getPort();
+        ClientRegistration registration = ClientRegistration.withRegistrationId("google")
+                .clientId("test")
+                .clientSecret("test")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .userInfoUri(baseUrl + "/userinfo")
+                .userNameAttributeName("sub")
+                .build();
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token",
+                Instant.now(), Instant.now().plusSeconds(60));
+        return new OAuth2UserRequest(registration, accessToken);
+    }
+}
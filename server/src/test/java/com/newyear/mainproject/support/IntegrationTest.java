@@ -0,0 +1,42 @@
+package com.newyear.mainproject.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 애플리케이션 설정 전체를 불러오는 테스트 (test 프로필 - H2 MySQL 모드 + 내장 Redis)
+ * Redis 는 테스트 JVM 에서 한 번만 빈 포트로 띄움, 같은 설정의 테스트는 context 도 공유
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class IntegrationTest {
+    private static final int REDIS_PORT = freePort();
+
+    static {
+        RedisServer redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(redisServer::stop));
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.redis.port", () -> REDIS_PORT);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
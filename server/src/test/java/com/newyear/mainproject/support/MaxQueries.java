@@ -0,0 +1,20 @@
+package com.newyear.mainproject.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메소드 실행 중 SQL 수가 value 를 넘으면 실패 (N+1 회귀 방지)
+ * 테스트 스레드에서 실행한 SQL 만 셈 - @SpringBootTest + MockMvc 요청처럼 같은 스레드에서 처리되는 경우
+ * 예) @MaxQueries(3) 붙인 테스트에서 mockMvc.perform(get("/board/1"))
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+    int value();
+}
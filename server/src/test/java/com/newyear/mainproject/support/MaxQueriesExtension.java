@@ -0,0 +1,33 @@
+package com.newyear.mainproject.support;
+
+import com.newyear.mainproject.monitoring.RequestQueryStats;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * {@link MaxQueries} 처리 - @BeforeEach 이후 테스트 메소드 실행 구간만 기록
+ * SQL 수는 DataSource proxy(MetricsConfig)로 세므로 애플리케이션 설정을 불러온 테스트에서만 동작
+ */
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), RequestQueryStats.start());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        RequestQueryStats stats = context.getStore(NAMESPACE).remove(context.getUniqueId(), RequestQueryStats.class);
+        stats.finish();
+
+        int max = context.getRequiredTestMethod().getAnnotation(MaxQueries.class).value();
+        if (stats.getStatements() > max) {
+            fail("expected at most " + max + " statements but was " + stats.getStatements()
+                    + " : " + stats.describeLoads() + ", repeated=" + stats.repeatedQueries(2));
+        }
+    }
+}
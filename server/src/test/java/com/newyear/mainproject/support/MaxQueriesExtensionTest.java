@@ -0,0 +1,72 @@
+package com.newyear.mainproject.support;
+
+import com.newyear.mainproject.monitoring.QueryCountListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+/**
+ * {@link MaxQueries} 가 budget 을 넘은 테스트를 실패시키는지 확인
+ * Fixture 는 EngineTestKit 으로 실행할 때만 동작 (일반 테스트 실행에서는 건너뜀)
+ */
+class MaxQueriesExtensionTest {
+    private static final String FIXTURE_PROPERTY = "max-queries.fixture";
+
+    @Test
+    void failsOnlyWhenBudgetIsExceeded() {
+        System.setProperty(FIXTURE_PROPERTY, "true");
+        try {
+            EngineTestKit.engine("junit-jupiter")
+                    .selectors(selectClass(Fixture.class))
+                    .execute()
+                    .testEvents()
+                    .assertStatistics(stats -> stats.started(2).succeeded(1).failed(1))
+                    .assertThatEvents()
+                    .haveExactly(1, event(test("withinBudget"), finishedSuccessfully()))
+                    .haveExactly(1, event(test("overBudget"), finishedWithFailure(
+                            instanceOf(AssertionFailedError.class),
+                            message(m -> m.startsWith("expected at most 2 statements but was 3")))));
+        } finally {
+            System.clearProperty(FIXTURE_PROPERTY);
+        }
+    }
+
+    //애플리케이션 설정 대신 DataSource 만 proxy 로 감쌈 (MetricsConfig 와 같은 listener)
+    @EnabledIfSystemProperty(named = FIXTURE_PROPERTY, matches = "true")
+    static class Fixture {
+        private final JdbcTemplate jdbcTemplate = new JdbcTemplate(ProxyDataSourceBuilder
+                .create(new DriverManagerDataSource("jdbc:h2:mem:max-queries;DB_CLOSE_DELAY=-1", "sa", ""))
+                .listener(new QueryCountListener())
+                .build());
+
+        @Test
+        @MaxQueries(2)
+        void withinBudget() {
+            execute(2);
+        }
+
+        @Test
+        @MaxQueries(2)
+        void overBudget() {
+            execute(3);
+        }
+
+        private void execute(int statements) {
+            for (int i = 0; i < statements; i++) {
+                jdbcTemplate.queryForObject("select 1", Integer.class);
+            }
+        }
+    }
+}